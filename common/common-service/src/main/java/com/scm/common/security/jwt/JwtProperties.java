@@ -40,4 +40,12 @@ public class JwtProperties {
      * 기본값: 604800000 (7일)
      */
     private Long refreshExpiration;
+
+    /**
+     * 블랙리스트 구 형식 키("blacklist:{token}") 병행 사용 여부
+     * 기본값: true (jti 키 전환 기간 동안 구 버전 Gateway 호환)
+     * 
+     * 전환 전에 발급된 토큰이 모두 만료된 뒤(Refresh Token 만료 시간 경과) false로 변경
+     */
+    private boolean blacklistLegacyKeyEnabled = true;
 }
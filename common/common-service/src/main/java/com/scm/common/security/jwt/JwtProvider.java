@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -80,6 +81,7 @@ public class JwtProvider {
                 .collect(Collectors.joining(","));
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .claim("authorities", authorities)
                 .issuedAt(now)
@@ -104,6 +106,22 @@ public class JwtProvider {
         return claims.getSubject();
     }
 
+    /**
+     * 토큰 ID(jti) 추출
+     * 
+     * @param token JWT Token
+     * @return 토큰 ID (jti 도입 이전에 발급된 토큰은 null)
+     */
+    public String getTokenIdFromToken(String token) {
+        Claims claims = Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        return claims.getId();
+    }
+
     /**
      * 토큰에서 권한 정보 추출
      * 
@@ -1,12 +1,18 @@
 package com.scm.common.security.service;
 
+import com.scm.common.security.jwt.JwtProperties;
 import com.scm.common.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -19,10 +25,18 @@ import java.util.concurrent.TimeUnit;
  * - TTL을 통해 만료된 토큰은 자동으로 삭제
  * 
  * Redis Key 형식:
- * - Key: "blacklist:{token}"
+ * - Key: "revoked:{revocationId}" (revocationId = jti, jti 없는 구 토큰은 토큰 SHA-256 hex)
  * - Value: "revoked"
  * - TTL: 토큰의 남은 유효 시간
  * 
+ * 구 형식 키 호환 (jwt.blacklist-legacy-key-enabled):
+ * - 전환 기간에는 "blacklist:{token}" 키도 함께 기록/조회하여 구 버전 Gateway와 호환
+ * - 전환 전 발급 토큰이 모두 만료되면 비활성화
+ * 
+ * 폐기 전파:
+ * - 블랙리스트 등록 후 "token:revoked" 채널로 revocationId를 발행
+ * - API Gateway는 이를 구독하여 로컬 폐기 집합을 갱신 (요청마다 Redis 조회 생략)
+ * 
  * @author c.h.jo
  * @since 2026-02-05
  */
@@ -33,8 +47,11 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProvider jwtProvider;
+    private final JwtProperties jwtProperties;
     
+    private static final String REVOKED_PREFIX = "revoked:";
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String REVOCATION_CHANNEL = "token:revoked";
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -55,15 +72,19 @@ public class TokenBlacklistService {
             }
             
             // Redis에 저장 (만료 시간까지만)
-            String key = BLACKLIST_PREFIX + token;
+            String revocationId = revocationIdOf(token);
             redisTemplate.opsForValue().set(
-                key,
+                REVOKED_PREFIX + revocationId,
                 "revoked",
                 ttl,
                 TimeUnit.MILLISECONDS
             );
+            if (jwtProperties.isBlacklistLegacyKeyEnabled()) {
+                redisTemplate.opsForValue().set(BLACKLIST_PREFIX + token, "revoked", ttl, TimeUnit.MILLISECONDS);
+            }
             
-            log.info("Token added to blacklist, TTL: {} seconds", ttl / 1000);
+            log.info("Token added to blacklist - revocationId: {}, TTL: {} seconds", revocationId, ttl / 1000);
+            publishRevocation(revocationId);
             return true;
             
         } catch (Exception e) {
@@ -73,6 +94,32 @@ public class TokenBlacklistService {
         }
     }
 
+    /**
+     * Gateway 로컬 폐기 집합에 전파 (발행 실패 시에도 Gateway 주기 재구성으로 반영됨)
+     */
+    private void publishRevocation(String revocationId) {
+        try {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, revocationId);
+        } catch (Exception e) {
+            log.warn("Failed to publish token revocation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 블랙리스트 키 식별자 - jti, jti가 없는 구 토큰은 토큰 SHA-256 hex
+     * 
+     * 주의: API Gateway의 JwtTokenProvider와 동일한 규칙이어야 합니다.
+     */
+    private String revocationIdOf(String token) throws NoSuchAlgorithmException {
+        String tokenId = jwtProvider.getTokenIdFromToken(token);
+        return tokenId != null ? tokenId : sha256(token);
+    }
+
+    private static String sha256(String token) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
     /**
      * 토큰이 블랙리스트에 있는지 확인
      * 
@@ -81,8 +128,13 @@ public class TokenBlacklistService {
      */
     public boolean isBlacklisted(String token) {
         try {
-            String key = BLACKLIST_PREFIX + token;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            String key = REVOKED_PREFIX + revocationIdOf(token);
+            if (!jwtProperties.isBlacklistLegacyKeyEnabled()) {
+                return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            }
+            // 신/구 형식 키를 한 번의 EXISTS로 확인
+            Long count = redisTemplate.countExistingKeys(List.of(key, BLACKLIST_PREFIX + token));
+            return count != null && count > 0;
         } catch (Exception e) {
             log.error("Failed to check blacklist", e);
             // Redis 장애 시 false 반환 (통과)
@@ -1,5 +1,6 @@
 package com.scm.common.user.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.common.shared.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -44,7 +45,7 @@ public class User extends BaseEntity {
      * UUID를 사용하여 분산 환경에서 중복 없이 ID 생성
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "user_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,73 @@
+package com.logistics.scm.identifier.config;
+
+import com.logistics.scm.identifier.number.NumberGenerator;
+import com.logistics.scm.identifier.number.SnowflakeIdGenerator;
+import com.logistics.scm.identifier.number.SnowflakeNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.ZoneId;
+
+/**
+ * 공통 식별자 자동 설정
+ * 
+ * 의존성(project(':common:identifier'))만 추가하면 NumberGenerator가 등록됩니다.
+ * 다른 방식(DB 시퀀스 블록 할당 등)이 필요하면 NumberGenerator 빈을 직접 등록하여 교체합니다.
+ * 
+ * 번호 생성기는 지연 생성되므로, NumberGenerator를 주입받는 서비스만 기동 시 identifier.node-id를 검증합니다.
+ * (UUIDv7만 사용하는 서비스는 노드 ID 설정이 필요 없음)
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@Slf4j
+@AutoConfiguration
+@EnableConfigurationProperties(IdentifierProperties.class)
+public class IdentifierAutoConfiguration {
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    public SnowflakeIdGenerator snowflakeIdGenerator(IdentifierProperties identifierProperties) {
+        long nodeId;
+        if (identifierProperties.getNodeId() != null) {
+            nodeId = identifierProperties.getNodeId();
+        } else if (identifierProperties.isAllowDerivedNodeId()) {
+            nodeId = deriveNodeId();
+        } else {
+            throw new IllegalStateException("identifier.node-id가 설정되지 않았습니다. "
+                    + "인스턴스마다 고유한 값(0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID + ")을 IDENTIFIER_NODE_ID로 지정하세요. "
+                    + "(로컬 단일 인스턴스는 identifier.allow-derived-node-id=true)");
+        }
+        log.info("Snowflake 노드 ID: {}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    public NumberGenerator numberGenerator(SnowflakeIdGenerator snowflakeIdGenerator) {
+        return new SnowflakeNumberGenerator(snowflakeIdGenerator, ZoneId.systemDefault());
+    }
+
+    /**
+     * 호스트명 + PID 해시로 노드 ID 결정 (allow-derived-node-id=true일 때만)
+     */
+    private static long deriveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        String seed = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        log.warn("identifier.node-id 미설정, 호스트 기반 노드 ID 사용 (로컬 전용, 인스턴스 간 충돌 가능): seed={}", seed);
+        return (seed.hashCode() & Integer.MAX_VALUE) % (SnowflakeIdGenerator.MAX_NODE_ID + 1);
+    }
+}
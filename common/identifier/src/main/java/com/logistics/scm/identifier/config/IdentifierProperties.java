@@ -0,0 +1,32 @@
+package com.logistics.scm.identifier.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 식별자 설정 Properties
+ * 
+ * application.yml의 identifier.* 속성을 바인딩합니다.
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "identifier")
+public class IdentifierProperties {
+
+    /**
+     * 노드 ID (0 ~ 1023)
+     * 같은 번호 체계를 사용하는 인스턴스끼리 겹치지 않아야 합니다. (배포 시 인스턴스마다 IDENTIFIER_NODE_ID로 지정)
+     * 미지정이면 번호 생성기를 사용하는 서비스는 기동에 실패합니다.
+     */
+    private Integer nodeId;
+
+    /**
+     * node-id 미지정 시 호스트명 + PID 해시로 노드 ID를 결정할지 여부
+     * 해시 충돌 시 인스턴스 간 같은 번호가 생성될 수 있으므로 로컬 단일 인스턴스 실행에서만 사용합니다.
+     */
+    private boolean allowDerivedNodeId = false;
+}
@@ -0,0 +1,18 @@
+package com.logistics.scm.identifier.number;
+
+/**
+ * 업무 번호 생성기 인터페이스
+ * 
+ * 주문 번호, 입고 번호 등 유니크 인덱스가 걸린 업무 번호를 생성합니다.
+ * 생성된 번호는 인스턴스 간 중복되지 않으며 생성 순서대로 정렬됩니다.
+ */
+public interface NumberGenerator {
+
+    /**
+     * 업무 번호 생성
+     *
+     * @param prefix 번호 접두어 (ORD, IB, TI 등)
+     * @return {prefix}-{yyyyMMdd}-{19자리 일련번호}
+     */
+    String next(String prefix);
+}
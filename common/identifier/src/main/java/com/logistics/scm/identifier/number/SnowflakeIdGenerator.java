@@ -0,0 +1,86 @@
+package com.logistics.scm.identifier.number;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 64bit ID 생성기
+ * 
+ * | 1bit 부호(0) | 41bit 타임스탬프(ms, 2026-01-01 기준) | 10bit 노드 | 12bit 시퀀스 |
+ * 
+ * - 노드당 밀리초마다 4,096개 (초당 약 400만 개) 생성
+ * - 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신 (락 없음)
+ * - 시퀀스 소진 또는 시계 역행 시 마지막 타임스탬프를 이어서 사용하므로 단조 증가 유지
+ */
+public class SnowflakeIdGenerator {
+
+    /** 2026-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long nodeBits;
+
+    /**
+     * 현재 시각 (epoch millis)
+     */
+    private final LongSupplier clock;
+
+    /**
+     * (epoch 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * 시각 공급자 지정 (시퀀스 소진/시계 역행 검증용)
+     */
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * ID 생성
+     */
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            long next;
+            if (now > prevTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = prev + 1;
+            } else {
+                // 같은 밀리초의 시퀀스 소진: 다음 밀리초를 앞당겨 사용
+                next = (prevTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * ID에 포함된 생성 시각 (epoch millis)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+}
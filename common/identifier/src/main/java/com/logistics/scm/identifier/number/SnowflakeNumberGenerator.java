@@ -0,0 +1,64 @@
+package com.logistics.scm.identifier.number;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Snowflake ID 기반 업무 번호 생성기
+ * 
+ * 형식: {prefix}-{yyyyMMdd}-{Snowflake ID 19자리 zero-padding}
+ * 예: ORD-20260210-0000123456789012345
+ * 
+ * - 일련번호가 전역 유니크하므로 날짜가 바뀌어도 중복 없음 (기존 Math.random() 4자리 방식의 충돌 제거)
+ * - 고정 길이 zero-padding으로 문자열 정렬 = 생성 순서
+ * - 날짜 문자열은 하루 단위로 캐시하고, 번호는 StringBuilder 한 번으로 조립 (String.format 미사용)
+ */
+public class SnowflakeNumberGenerator implements NumberGenerator {
+
+    private static final int ID_WIDTH = 19;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final SnowflakeIdGenerator idGenerator;
+    private final ZoneId zoneId;
+
+    private volatile DateCache dateCache = new DateCache(0, 0, "");
+
+    public SnowflakeNumberGenerator(SnowflakeIdGenerator idGenerator, ZoneId zoneId) {
+        this.idGenerator = idGenerator;
+        this.zoneId = zoneId;
+    }
+
+    @Override
+    public String next(String prefix) {
+        long id = idGenerator.nextId();
+        String date = dateOf(SnowflakeIdGenerator.timestampOf(id));
+        String digits = Long.toString(id);
+
+        StringBuilder sb = new StringBuilder(prefix.length() + date.length() + ID_WIDTH + 2)
+                .append(prefix).append('-').append(date).append('-');
+        for (int i = digits.length(); i < ID_WIDTH; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
+    }
+
+    private String dateOf(long epochMillis) {
+        DateCache cache = dateCache;
+        if (epochMillis >= cache.startMillis && epochMillis < cache.endMillis) {
+            return cache.formatted;
+        }
+
+        LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zoneId).toLocalDate();
+        cache = new DateCache(
+                date.atStartOfDay(zoneId).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli(),
+                date.format(DATE_FORMAT));
+        dateCache = cache;
+        return cache.formatted;
+    }
+
+    private record DateCache(long startMillis, long endMillis, String formatted) {
+    }
+}
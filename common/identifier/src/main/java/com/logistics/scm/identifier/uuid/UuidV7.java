@@ -0,0 +1,29 @@
+package com.logistics.scm.identifier.uuid;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * UUIDv7 식별자 생성 어노테이션
+ * 
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}(랜덤 v4) 대신 사용합니다.
+ * 
+ * 사용 예:
+ * <pre>
+ * &#64;Id
+ * &#64;UuidV7
+ * &#64;Column(name = "order_id", columnDefinition = "uuid")
+ * private UUID orderId;
+ * </pre>
+ */
+@IdGeneratorType(UuidV7IdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
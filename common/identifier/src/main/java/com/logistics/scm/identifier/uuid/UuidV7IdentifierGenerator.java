@@ -0,0 +1,29 @@
+package com.logistics.scm.identifier.uuid;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Hibernate UUIDv7 식별자 생성기
+ * 
+ * INSERT 전에 애플리케이션에서 ID를 할당하므로(IDENTITY와 달리) hibernate.jdbc.batch_size 설정 시
+ * INSERT가 JDBC 배치로 묶입니다.
+ */
+public class UuidV7IdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return UuidV7Generator.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
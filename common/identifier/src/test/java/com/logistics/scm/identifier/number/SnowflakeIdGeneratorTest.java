@@ -0,0 +1,122 @@
+package com.logistics.scm.identifier.number;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SnowflakeIdGenerator 테스트
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000L;
+    private static final int SEQUENCE_SIZE = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+
+    @Test
+    @DisplayName("노드 ID는 0 ~ MAX_NODE_ID 범위만 허용")
+    void nodeIdRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        long id = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> NOW).nextId();
+        assertThat(nodeOf(id)).isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+        assertThat(nodeOf(new SnowflakeIdGenerator(0, () -> NOW).nextId())).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 시퀀스를 소진하면 다음 밀리초를 앞당겨 사용")
+    void sequenceRollover() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long previous = -1;
+        for (int i = 0; i < SEQUENCE_SIZE; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+            assertThat(sequenceOf(id)).isEqualTo(i);
+            previous = id;
+        }
+
+        long rolledOver = generator.nextId();
+        assertThat(rolledOver).isGreaterThan(previous);
+        assertThat(SnowflakeIdGenerator.timestampOf(rolledOver)).isEqualTo(NOW + 1);
+        assertThat(sequenceOf(rolledOver)).isZero();
+    }
+
+    @Test
+    @DisplayName("시계가 역행해도 마지막 타임스탬프를 이어서 사용하여 단조 증가")
+    void clockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long beforeSkew = generator.nextId();
+        clock.set(NOW - 500);
+        long afterSkew = generator.nextId();
+
+        assertThat(afterSkew).isGreaterThan(beforeSkew);
+        assertThat(SnowflakeIdGenerator.timestampOf(afterSkew)).isEqualTo(NOW);
+
+        clock.set(NOW + 1);
+        long recovered = generator.nextId();
+        assertThat(recovered).isGreaterThan(afterSkew);
+        assertThat(SnowflakeIdGenerator.timestampOf(recovered)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없이 스레드별 단조 증가")
+    void uniqueAndMonotonicUnderContention() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                });
+            }
+
+            Set<Long> unique = new HashSet<>();
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                    unique.add(ids[i]);
+                }
+            }
+            assertThat(unique).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_SIZE - 1);
+    }
+}
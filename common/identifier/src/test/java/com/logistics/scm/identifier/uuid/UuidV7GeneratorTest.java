@@ -0,0 +1,125 @@
+package com.logistics.scm.identifier.uuid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UuidV7Generator 테스트
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_767_225_600_000L; // 2026-01-01T00:00:00Z
+    private static final int COUNTER_SIZE = 1 << 12;
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant 비트와 생성 시각(ms)을 담음")
+    void versionVariantAndTimestamp() {
+        UUID uuid = UuidV7Generator.next(new AtomicLong(), NOW);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(timestampOf(uuid)).isEqualTo(NOW);
+
+        UUID current = UuidV7Generator.next();
+        assertThat(current.version()).isEqualTo(7);
+        assertThat(current.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시각 순서대로 정렬되며 같은 밀리초 안에서는 카운터로 단조 증가")
+    void timeOrdered() {
+        AtomicLong state = new AtomicLong();
+
+        UUID first = UuidV7Generator.next(state, NOW);
+        UUID sameMillis = UuidV7Generator.next(state, NOW);
+        UUID later = UuidV7Generator.next(state, NOW + 1);
+
+        assertThat(first).isLessThan(sameMillis);
+        assertThat(sameMillis).isLessThan(later);
+        assertThat(timestampOf(later)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 카운터를 소진하면 다음 밀리초를 앞당겨 사용")
+    void counterRollover() {
+        AtomicLong state = new AtomicLong();
+
+        UUID previous = UuidV7Generator.next(state, NOW);
+        for (int i = 0; i < COUNTER_SIZE; i++) {
+            UUID uuid = UuidV7Generator.next(state, NOW);
+            assertThat(uuid).isGreaterThan(previous);
+            assertThat(uuid.version()).isEqualTo(7);
+            previous = uuid;
+        }
+
+        // 시작 카운터가 최대 2047이므로 4096개 안에 반드시 다음 밀리초로 이월
+        assertThat(timestampOf(previous)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 역행해도 마지막 시각을 이어서 사용하여 단조 증가")
+    void clockMovesBackwards() {
+        AtomicLong state = new AtomicLong();
+
+        UUID beforeSkew = UuidV7Generator.next(state, NOW);
+        UUID afterSkew = UuidV7Generator.next(state, NOW - 500);
+
+        assertThat(afterSkew).isGreaterThan(beforeSkew);
+        assertThat(timestampOf(afterSkew)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없이 스레드별 단조 증가")
+    void uniqueAndMonotonicUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<UUID[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    UUID[] uuids = new UUID[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        uuids[i] = UuidV7Generator.next();
+                    }
+                    return uuids;
+                });
+            }
+
+            Set<UUID> unique = new HashSet<>();
+            for (Future<UUID[]> future : executor.invokeAll(tasks)) {
+                UUID[] uuids = future.get();
+                for (int i = 0; i < uuids.length; i++) {
+                    if (i > 0) {
+                        assertThat(uuids[i]).isGreaterThan(uuids[i - 1]);
+                    }
+                    unique.add(uuids[i]);
+                }
+            }
+            assertThat(unique).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 상위 48bit Unix 시각(ms)
+     */
+    private static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,48 @@
+package com.logistics.scm.messaging.config;
+
+import com.logistics.scm.messaging.inbox.service.InboxServiceImpl;
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import com.logistics.scm.messaging.outbox.relay.OutboxKafkaSender;
+import com.logistics.scm.messaging.outbox.relay.OutboxRelayScheduler;
+import com.logistics.scm.messaging.outbox.relay.PollingOutboxRelay;
+import com.logistics.scm.messaging.outbox.relay.SkipLockedOutboxRelay;
+import com.logistics.scm.messaging.outbox.service.OutboxRetryPolicy;
+import com.logistics.scm.messaging.outbox.service.OutboxServiceImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 공통 메시징 자동 설정
+ * 
+ * 의존성(project(':common:messaging'))만 추가하면 아래 구성이 등록됩니다.
+ * - Outbox / Outbox Dead Letter / Inbox 엔티티 및 Repository
+ *   (@AutoConfigurationPackage로 서비스의 기본 스캔 범위에 라이브러리 패키지를 추가)
+ * - OutboxService, InboxService
+ * - messaging.outbox.relay 설정에 따른 Relay (poll / skip-locked / cdc)
+ * - 메시징 메트릭
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@AutoConfiguration(before = {HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@AutoConfigurationPackage(basePackages = "com.logistics.scm.messaging")
+@EnableConfigurationProperties(MessagingProperties.class)
+@EnableScheduling
+@Import({
+        MessagingKafkaProducerConfig.class,
+        MessagingMetrics.class,
+        OutboxRetryPolicy.class,
+        OutboxServiceImpl.class,
+        OutboxKafkaSender.class,
+        PollingOutboxRelay.class,
+        SkipLockedOutboxRelay.class,
+        OutboxRelayScheduler.class,
+        InboxServiceImpl.class
+})
+public class MessagingAutoConfiguration {
+}
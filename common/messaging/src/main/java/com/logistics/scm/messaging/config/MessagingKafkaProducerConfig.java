@@ -0,0 +1,70 @@
+package com.logistics.scm.messaging.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+
+/**
+ * Outbox 발행용 Kafka Producer 설정
+ * 
+ * Outbox payload는 이미 JSON 문자열이므로 StringSerializer로 그대로 발행합니다.
+ * (이벤트 타입별 KafkaTemplate 및 재역직렬화 불필요)
+ * 
+ * Relay는 배치 단위로 레코드를 연속 전송하므로 messaging.outbox.producer.*의
+ * linger / batch.size / 압축 설정으로 요청 수와 전송 바이트를 줄입니다.
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@Configuration
+public class MessagingKafkaProducerConfig {
+
+    /**
+     * 멱등성 Producer가 순서를 보장하는 최대 in-flight 요청 수
+     */
+    private static final int MAX_IN_FLIGHT_WITH_IDEMPOTENCE = 5;
+
+    /**
+     * Outbox Producer Factory
+     * spring.kafka.producer.* 설정을 기반으로 직렬화/멱등성만 고정
+     */
+    @Bean
+    public ProducerFactory<String, String> messagingProducerFactory(
+            KafkaProperties kafkaProperties, ObjectProvider<SslBundles> sslBundles,
+            MessagingProperties messagingProperties) {
+        MessagingProperties.ProducerProperties producer = messagingProperties.getOutbox().getProducer();
+
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all"); // 모든 replica 확인
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // 멱등성 보장
+
+        // 처리량 튜닝
+        props.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, producer.getBufferMemory());
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                Math.min(producer.getMaxInFlightRequestsPerConnection(), MAX_IN_FLIGHT_WITH_IDEMPOTENCE));
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    /**
+     * Outbox KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, String> messagingKafkaTemplate(
+            ProducerFactory<String, String> messagingProducerFactory) {
+        return new KafkaTemplate<>(messagingProducerFactory);
+    }
+}
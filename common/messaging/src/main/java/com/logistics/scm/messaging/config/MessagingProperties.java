@@ -0,0 +1,166 @@
+package com.logistics.scm.messaging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메시징 설정 Properties
+ * 
+ * application.yml의 messaging.* 속성을 바인딩합니다.
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "messaging")
+public class MessagingProperties {
+
+    public static final String RELAY_POLL = "poll";
+    public static final String RELAY_SKIP_LOCKED = "skip-locked";
+    public static final String RELAY_CDC = "cdc";
+
+    private final OutboxProperties outbox = new OutboxProperties();
+
+    private final InboxProperties inbox = new InboxProperties();
+
+    @Getter
+    @Setter
+    public static class OutboxProperties {
+
+        /**
+         * Relay 방식
+         * - poll: 단일 인스턴스 폴링 (기본값)
+         * - skip-locked: SELECT ... FOR UPDATE SKIP LOCKED (다중 인스턴스 병렬 발행)
+         * - cdc: 애플리케이션 발행 비활성화 (Debezium 등 CDC 커넥터가 outbox_tb를 읽음)
+         */
+        private String relay = RELAY_POLL;
+
+        /**
+         * 기본 발행 토픽
+         */
+        private String defaultTopic;
+
+        /**
+         * 이벤트 타입별 토픽 (미지정 시 defaultTopic)
+         */
+        private Map<String, String> topics = new HashMap<>();
+
+        /**
+         * Relay 1회 처리 건수
+         */
+        private int batchSize = 200;
+
+        /**
+         * Relay 실행 간격 (밀리초)
+         */
+        private long pollIntervalMs = 1000;
+
+        /**
+         * Kafka ack 대기 시간 (밀리초)
+         */
+        private long sendTimeoutMs = 30000;
+
+        /**
+         * 발행 완료 이벤트 보관 기간 (일)
+         */
+        private int retentionDays = 7;
+
+        private final RetryProperties retry = new RetryProperties();
+
+        private final ProducerProperties producer = new ProducerProperties();
+
+        /**
+         * 이벤트 타입에 해당하는 토픽 조회
+         */
+        public String resolveTopic(String eventType) {
+            return topics.getOrDefault(eventType, defaultTopic);
+        }
+
+        /**
+         * Relay 1회 조회/전송 건수
+         * 배치 단위로 ack를 모두 기다린 뒤 다음 배치를 조회하므로, ack 대기 레코드 수는 이 값을 넘지 않음
+         */
+        public int resolveRelayBatchSize() {
+            return Math.max(1, Math.min(batchSize, producer.getMaxInFlightRecords()));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class RetryProperties {
+
+        /**
+         * 최대 시도 횟수 (초과 시 Dead Letter 이관)
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 첫 재시도 최대 대기 (밀리초)
+         */
+        private long initialIntervalMs = 1000;
+
+        /**
+         * 시도마다 대기 상한 증가 배수
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * 대기 상한 (밀리초)
+         */
+        private long maxIntervalMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class ProducerProperties {
+
+        /**
+         * 배치를 채우기 위해 전송을 지연하는 최대 시간 (밀리초)
+         * 0이면 레코드마다 즉시 전송되어 작은 배치가 다수 발생
+         */
+        private int lingerMs = 20;
+
+        /**
+         * 파티션별 배치 최대 크기 (바이트)
+         */
+        private int batchSize = 65536;
+
+        /**
+         * 압축 방식 (none, gzip, snappy, lz4, zstd)
+         * JSON payload는 압축률이 높으므로 lz4(CPU 부담 적음) 또는 zstd(압축률 우선) 권장
+         */
+        private String compressionType = "lz4";
+
+        /**
+         * 커넥션당 ack 대기 요청 수
+         * 멱등성 Producer는 5 이하에서만 파티션 내 순서를 보장하므로 5를 초과하면 5로 제한
+         */
+        private int maxInFlightRequestsPerConnection = 5;
+
+        /**
+         * Producer 버퍼 메모리 (바이트)
+         */
+        private long bufferMemory = 33554432;
+
+        /**
+         * Relay가 ack를 기다리는 최대 레코드 수 (Backpressure)
+         * batch-size보다 작으면 Relay 배치 크기를 이 값으로 줄여, 한도 초과 레코드를 실패 처리하지 않고 다음 배치로 넘김
+         */
+        private int maxInFlightRecords = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class InboxProperties {
+
+        /**
+         * 수신 이력 보관 기간 (일)
+         */
+        private int retentionDays = 7;
+    }
+}
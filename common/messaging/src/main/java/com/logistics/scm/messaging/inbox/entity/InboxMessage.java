@@ -0,0 +1,56 @@
+package com.logistics.scm.messaging.inbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Inbox Entity
+ * 
+ * Idempotent Consumer 구현
+ * 소비자(consumer)별로 처리한 메시지 ID를 기록하여 재전송/중복 발행된 이벤트를 한 번만 처리
+ */
+@Entity
+@Table(name = "inbox_tb", indexes = {
+        @Index(name = "idx_inbox_received_at", columnList = "received_at")
+})
+@IdClass(InboxMessage.InboxMessageId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class InboxMessage {
+
+    /**
+     * 메시지 ID (이벤트 eventId)
+     */
+    @Id
+    @Column(name = "message_id", nullable = false, length = 100)
+    private String messageId;
+
+    /**
+     * 소비자 이름 (리스너 단위)
+     */
+    @Id
+    @Column(name = "consumer", nullable = false, length = 100)
+    private String consumer;
+
+    /**
+     * 최초 수신 시각
+     */
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    /**
+     * Inbox 복합 키
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class InboxMessageId implements Serializable {
+        private String messageId;
+        private String consumer;
+    }
+}
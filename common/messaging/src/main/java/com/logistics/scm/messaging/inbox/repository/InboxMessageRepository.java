@@ -0,0 +1,41 @@
+package com.logistics.scm.messaging.inbox.repository;
+
+import com.logistics.scm.messaging.inbox.entity.InboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox Repository
+ */
+@Repository
+public interface InboxMessageRepository extends JpaRepository<InboxMessage, InboxMessage.InboxMessageId> {
+
+    /**
+     * 수신 이력 기록 (이미 존재하면 무시)
+     * 유니크 위반 예외 없이 한 번의 INSERT로 중복 여부 판단 (PostgreSQL ON CONFLICT)
+     *
+     * @return 1이면 최초 수신, 0이면 중복
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inbox_tb (message_id, consumer, received_at) " +
+            "VALUES (:messageId, :consumer, :receivedAt) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("messageId") String messageId,
+                       @Param("consumer") String consumer,
+                       @Param("receivedAt") LocalDateTime receivedAt);
+
+    /**
+     * 보관 기간이 지난 수신 이력 삭제
+     *
+     * @param before 수신 시각 기준
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM InboxMessage i WHERE i.receivedAt < :before")
+    int deleteReceivedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,20 @@
+package com.logistics.scm.messaging.inbox.service;
+
+/**
+ * Inbox Service 인터페이스
+ * 
+ * Kafka는 at-least-once 전달이므로 Consumer 재시작/리밸런싱 시 같은 메시지가 다시 전달될 수 있습니다.
+ * 리스너는 비즈니스 처리와 같은 트랜잭션 안에서 tryAcquire를 호출하여 중복 처리를 막습니다.
+ */
+public interface InboxService {
+
+    /**
+     * 메시지 처리 권한 획득
+     * 호출한 비즈니스 트랜잭션에 참여하므로, 비즈니스 처리가 롤백되면 수신 이력도 롤백되어 재전달 시 다시 처리됩니다.
+     *
+     * @param messageId 메시지 ID (이벤트 ID)
+     * @param consumer 소비자 이름 (리스너 단위)
+     * @return 최초 수신이면 true, 이미 처리된 메시지면 false
+     */
+    boolean tryAcquire(String messageId, String consumer);
+}
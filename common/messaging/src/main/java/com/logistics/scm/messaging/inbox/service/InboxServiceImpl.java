@@ -0,0 +1,50 @@
+package com.logistics.scm.messaging.inbox.service;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import com.logistics.scm.messaging.inbox.repository.InboxMessageRepository;
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox Service 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InboxServiceImpl implements InboxService {
+
+    private final InboxMessageRepository inboxMessageRepository;
+    private final MessagingProperties messagingProperties;
+    private final MessagingMetrics messagingMetrics;
+
+    @Override
+    @Transactional
+    public boolean tryAcquire(String messageId, String consumer) {
+        boolean acquired = inboxMessageRepository.insertIfAbsent(messageId, consumer, LocalDateTime.now()) > 0;
+        if (!acquired) {
+            log.info("중복 메시지 수신, 처리 생략: messageId={}, consumer={}", messageId, consumer);
+            messagingMetrics.recordInboxDuplicate(consumer);
+        }
+        return acquired;
+    }
+
+    /**
+     * 보관 기간이 지난 수신 이력 정리
+     * 매일 새벽 3시 30분 실행
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(messagingProperties.getInbox().getRetentionDays());
+        int deleted = inboxMessageRepository.deleteReceivedBefore(before);
+        if (deleted > 0) {
+            log.info("오래된 Inbox 수신 이력 정리 완료: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.logistics.scm.messaging.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Outbox Relay가 Kafka 레코드에 부여하는 헤더 이름
+ * 
+ * Consumer는 페이로드를 역직렬화하기 전에 헤더만으로 이벤트 타입을 판별하거나
+ * 메시지 ID로 중복 수신 여부를 확인할 수 있습니다.
+ */
+public final class MessagingHeaders {
+
+    /** 메시지 고유 ID (= outbox_id) */
+    public static final String MESSAGE_ID = "messageId";
+
+    /** 이벤트 타입 (OrderCreatedEvent 등) */
+    public static final String EVENT_TYPE = "eventType";
+
+    /** 집계 타입 (Order, Inventory, Inbound 등) */
+    public static final String AGGREGATE_TYPE = "aggregateType";
+
+    /** 집계 ID */
+    public static final String AGGREGATE_ID = "aggregateId";
+
+    /** W3C Trace Context */
+    public static final String TRACE_PARENT = "traceparent";
+
+    private MessagingHeaders() {
+    }
+
+    /**
+     * 레코드 헤더 값 조회
+     *
+     * @param record Kafka 레코드
+     * @param key 헤더 이름
+     * @return 헤더 값 (없으면 null)
+     */
+    public static String valueOf(ConsumerRecord<?, ?> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
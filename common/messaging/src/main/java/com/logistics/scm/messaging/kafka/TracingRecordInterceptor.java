@@ -0,0 +1,51 @@
+package com.logistics.scm.messaging.kafka;
+
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import com.logistics.scm.messaging.trace.TraceContext;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Saga 추적용 Kafka RecordInterceptor
+ * 
+ * - traceparent 헤더를 리스너 스레드의 TraceContext로 설정 (리스너가 저장하는 Outbox에 trace 전파)
+ * - consume 구간: Producer 전송 시각(record timestamp) → 리스너 수신
+ * - handle 구간: 리스너 처리 시간
+ */
+public class TracingRecordInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+    private final MessagingMetrics messagingMetrics;
+    private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+    public TracingRecordInterceptor(MessagingMetrics messagingMetrics) {
+        this.messagingMetrics = messagingMetrics;
+    }
+
+    @Override
+    public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        TraceContext.set(MessagingHeaders.valueOf(record, MessagingHeaders.TRACE_PARENT));
+        messagingMetrics.recordSagaHop(MessagingMetrics.HOP_CONSUME, eventTypeOf(record),
+                Duration.ofMillis(Math.max(0, System.currentTimeMillis() - record.timestamp())));
+        handleStartedAt.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        Long startedAt = handleStartedAt.get();
+        if (startedAt != null) {
+            messagingMetrics.recordSagaHop(MessagingMetrics.HOP_HANDLE, eventTypeOf(record),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+        handleStartedAt.remove();
+        TraceContext.clear();
+    }
+
+    private String eventTypeOf(ConsumerRecord<K, V> record) {
+        String eventType = MessagingHeaders.valueOf(record, MessagingHeaders.EVENT_TYPE);
+        return eventType != null ? eventType : "unknown";
+    }
+}
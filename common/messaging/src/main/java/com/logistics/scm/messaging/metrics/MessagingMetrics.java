@@ -0,0 +1,106 @@
+package com.logistics.scm.messaging.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메시징 메트릭
+ * 
+ * Outbox 발행/실패/Dead Letter 건수, Relay 배치 처리 시간, Saga 구간별 소요 시간
+ * (publish / consume / handle), Inbox 중복 수신 건수를 Micrometer로 노출합니다. (/actuator/prometheus)
+ * 
+ * @author c.h.jo
+ * @since 2026-02-10
+ */
+@Component
+public class MessagingMetrics {
+
+    /** Saga 구간: Outbox 저장 → Kafka ack */
+    public static final String HOP_PUBLISH = "publish";
+    /** Saga 구간: Kafka 전송 → 리스너 수신 */
+    public static final String HOP_CONSUME = "consume";
+    /** Saga 구간: 리스너 처리 */
+    public static final String HOP_HANDLE = "handle";
+
+    private static final String TAG_EVENT_TYPE = "eventType";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer relayBatchTimer;
+    private final DistributionSummary relayBatchSize;
+    private final Map<String, Timer> sagaHopTimers = new ConcurrentHashMap<>();
+
+    public MessagingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.relayBatchTimer = Timer.builder("messaging.outbox.relay.batch")
+                .description("Outbox relay 배치 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.relayBatchSize = DistributionSummary.builder("messaging.outbox.relay.batch.size")
+                .description("Outbox relay 배치 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 성공 기록 (생성 시각부터 발행까지의 지연 포함)
+     */
+    public void recordPublished(String eventType, LocalDateTime createdAt, LocalDateTime publishedAt) {
+        meterRegistry.counter("messaging.outbox.published", TAG_EVENT_TYPE, eventType).increment();
+        if (createdAt != null) {
+            recordSagaHop(HOP_PUBLISH, eventType, Duration.between(createdAt, publishedAt));
+        }
+    }
+
+    /**
+     * Saga 구간별 소요 시간 기록
+     * 이벤트 타입 + 구간 조합으로 어느 단계가 p99를 지배하는지 확인 (histogram_quantile)
+     *
+     * @param hop 구간 (publish, consume, handle)
+     * @param eventType 이벤트 타입
+     * @param duration 소요 시간
+     */
+    public void recordSagaHop(String hop, String eventType, Duration duration) {
+        sagaHopTimers.computeIfAbsent(hop + ':' + eventType, key -> Timer.builder("messaging.saga.hop")
+                        .description("Saga 구간별 소요 시간")
+                        .tag("hop", hop)
+                        .tag(TAG_EVENT_TYPE, eventType)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(duration);
+    }
+
+    /**
+     * 발행 실패 기록
+     */
+    public void recordFailed(String eventType) {
+        meterRegistry.counter("messaging.outbox.failed", TAG_EVENT_TYPE, eventType).increment();
+    }
+
+    /**
+     * Dead Letter 이관 기록
+     */
+    public void recordDeadLettered(String eventType) {
+        meterRegistry.counter("messaging.outbox.dead_lettered", TAG_EVENT_TYPE, eventType).increment();
+    }
+
+    /**
+     * Relay 배치 처리 기록
+     */
+    public void recordRelayBatch(int size, long elapsedNanos) {
+        relayBatchSize.record(size);
+        relayBatchTimer.record(Duration.ofNanos(elapsedNanos));
+    }
+
+    /**
+     * Inbox 중복 수신 기록
+     */
+    public void recordInboxDuplicate(String consumer) {
+        meterRegistry.counter("messaging.inbox.duplicate", "consumer", consumer).increment();
+    }
+}
@@ -1,6 +1,7 @@
-package com.logistics.scm.oms.order.event.outbox.entity;
+package com.logistics.scm.messaging.outbox.entity;
 
-import com.logistics.scm.oms.order.common.BaseEntity;
+import com.logistics.scm.identifier.uuid.UuidV7;
+import com.logistics.scm.messaging.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,11 +13,15 @@ import java.util.UUID;
  * 
  * Transactional Outbox Pattern 구현
  * 비즈니스 트랜잭션과 이벤트 발행을 원자적으로 처리
+ * 
+ * CDC 연동 시 aggregate_type / aggregate_id / event_type / payload 컬럼을
+ * Debezium Outbox Event Router의 필드로 매핑합니다.
  */
 @Entity
 @Table(name = "outbox_tb", indexes = {
-        @Index(name = "idx_outbox_status", columnList = "status"),
-        @Index(name = "idx_outbox_created_at", columnList = "createdAt")
+        @Index(name = "idx_outbox_status", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_created_at", columnList = "created_at"),
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,12 +30,12 @@ import java.util.UUID;
 public class Outbox extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "outbox_id", updatable = false, nullable = false)
     private UUID outboxId;
 
     /**
-     * 집계 타입 (Order, Inventory 등)
+     * 집계 타입 (Order, Inventory, Inbound 등)
      */
     @Column(name = "aggregate_type", nullable = false, length = 50)
     private String aggregateType;
@@ -53,6 +58,12 @@ public class Outbox extends BaseEntity {
     @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
     private String payload;
 
+    /**
+     * W3C traceparent (Saga 구간 추적용, Kafka traceparent 헤더로 전달)
+     */
+    @Column(name = "trace_parent", length = 55)
+    private String traceParent;
+
     /**
      * 발행 상태
      */
@@ -72,6 +83,13 @@ public class Outbox extends BaseEntity {
     @Column(name = "last_attempt_at")
     private LocalDateTime lastAttemptAt;
 
+    /**
+     * 다음 재시도 예정 시각 (지수 백오프 + 지터)
+     * 재시도 스케줄러는 이 시각이 지난 FAILED 행만 인덱스로 조회
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     /**
      * 발행 완료 시각
      */
@@ -92,25 +110,31 @@ public class Outbox extends BaseEntity {
     public void markAsPublished() {
         this.status = OutboxStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
         this.errorMessage = null;
     }
 
     /**
      * 발행 실패 처리
+     *
+     * @param errorMessage 오류 메시지
+     * @param nextAttemptAt 다음 재시도 예정 시각
      */
-    public void markAsFailed(String errorMessage) {
+    public void markAsFailed(String errorMessage, LocalDateTime nextAttemptAt) {
         this.status = OutboxStatus.FAILED;
         this.retryCount++;
         this.lastAttemptAt = LocalDateTime.now();
+        this.nextAttemptAt = nextAttemptAt;
         this.errorMessage = errorMessage;
     }
 
     /**
      * 재시도 대상인지 확인
-     * 최대 3회까지 재시도
+     *
+     * @param maxRetryCount 최대 재시도 횟수
      */
-    public boolean canRetry() {
-        return this.retryCount < 3 && this.status == OutboxStatus.PENDING;
+    public boolean canRetry(int maxRetryCount) {
+        return this.retryCount < maxRetryCount && this.status == OutboxStatus.FAILED;
     }
 
     /**
@@ -118,6 +142,7 @@ public class Outbox extends BaseEntity {
      */
     public void resetToPending() {
         this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = null;
         this.errorMessage = null;
     }
 
@@ -131,12 +156,13 @@ public class Outbox extends BaseEntity {
      * Outbox 생성 정적 팩토리 메서드
      */
     public static Outbox create(String aggregateType, String aggregateId, 
-                                String eventType, String payload) {
+                                String eventType, String payload, String traceParent) {
         return Outbox.builder()
                 .aggregateType(aggregateType)
                 .aggregateId(aggregateId)
                 .eventType(eventType)
                 .payload(payload)
+                .traceParent(traceParent)
                 .status(OutboxStatus.PENDING)
                 .retryCount(0)
                 .build();
@@ -0,0 +1,103 @@
+package com.logistics.scm.messaging.outbox.entity;
+
+import com.logistics.scm.identifier.uuid.UuidV7;
+import com.logistics.scm.messaging.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox Dead Letter Entity
+ * 
+ * 최대 재시도 횟수를 초과한 Outbox 이벤트 보관
+ * Outbox 테이블(hot)에서 분리하여 재시도 스캔 대상에서 제외
+ */
+@Entity
+@Table(name = "outbox_dead_letter_tb", indexes = {
+        @Index(name = "idx_outbox_dlq_aggregate", columnList = "aggregate_type, aggregate_id"),
+        @Index(name = "idx_outbox_dlq_dead_lettered_at", columnList = "dead_lettered_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxDeadLetter extends BaseEntity {
+
+    @Id
+    @UuidV7
+    @Column(name = "dead_letter_id", updatable = false, nullable = false)
+    private UUID deadLetterId;
+
+    /**
+     * 원본 Outbox ID
+     */
+    @Column(name = "outbox_id", nullable = false)
+    private UUID outboxId;
+
+    /**
+     * 집계 타입
+     */
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    /**
+     * 집계 ID
+     */
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    /**
+     * 이벤트 타입
+     */
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    /**
+     * 이벤트 페이로드 (JSON 형식)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * 총 발행 시도 횟수
+     */
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    /**
+     * 원본 Outbox 생성 시각
+     */
+    @Column(name = "originally_created_at")
+    private LocalDateTime originallyCreatedAt;
+
+    /**
+     * Dead Letter 이관 시각
+     */
+    @Column(name = "dead_lettered_at", nullable = false)
+    private LocalDateTime deadLetteredAt;
+
+    /**
+     * 재시도 소진된 Outbox로부터 Dead Letter 생성
+     */
+    public static OutboxDeadLetter from(Outbox outbox) {
+        return OutboxDeadLetter.builder()
+                .outboxId(outbox.getOutboxId())
+                .aggregateType(outbox.getAggregateType())
+                .aggregateId(outbox.getAggregateId())
+                .eventType(outbox.getEventType())
+                .payload(outbox.getPayload())
+                .retryCount(outbox.getRetryCount())
+                .errorMessage(outbox.getErrorMessage())
+                .originallyCreatedAt(outbox.getCreatedAt())
+                .deadLetteredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,4 +1,4 @@
-package com.logistics.scm.oms.order.event.outbox.entity;
+package com.logistics.scm.messaging.outbox.entity;
 
 /**
  * Outbox 상태 Enum
@@ -0,0 +1,126 @@
+package com.logistics.scm.messaging.outbox.relay;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import com.logistics.scm.messaging.kafka.MessagingHeaders;
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox → Kafka 전송기
+ * 
+ * 배치 내 모든 레코드를 먼저 send()로 비동기 전송한 뒤 ack를 모아서 대기합니다.
+ * (행마다 .get()으로 동기 대기하지 않으므로 Producer 배치/linger가 실제로 동작)
+ * 
+ * 배치의 ack를 모두 기다린 뒤 반환하므로 ack 대기 레코드 수는 배치 크기를 넘지 않으며,
+ * 배치 크기는 messaging.outbox.producer.max-in-flight-records 이하로 제한됩니다. (OutboxProperties.resolveRelayBatchSize)
+ * 
+ * - 토픽: messaging.outbox.topics[eventType] 또는 default-topic
+ * - 키: aggregateId (동일 집계 이벤트의 파티션 내 순서 보장)
+ * - 값: Outbox에 저장된 JSON 문자열 그대로 (재직렬화 없음)
+ */
+@Slf4j
+@Component
+public class OutboxKafkaSender {
+
+    private final KafkaTemplate<String, String> messagingKafkaTemplate;
+    private final MessagingProperties messagingProperties;
+
+    public OutboxKafkaSender(@Qualifier("messagingKafkaTemplate") KafkaTemplate<String, String> messagingKafkaTemplate,
+                             MessagingProperties messagingProperties) {
+        this.messagingKafkaTemplate = messagingKafkaTemplate;
+        this.messagingProperties = messagingProperties;
+    }
+
+    /**
+     * Outbox 목록 일괄 전송
+     *
+     * @param outboxes 전송 대상
+     * @return 전송 결과 (성공 목록 / 실패 목록과 오류 메시지)
+     */
+    public SendResult sendAll(List<Outbox> outboxes) {
+        Map<Outbox, CompletableFuture<?>> futures = new LinkedHashMap<>();
+        SendResult result = new SendResult();
+
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(messagingProperties.getOutbox().getSendTimeoutMs());
+
+        for (Outbox outbox : outboxes) {
+            try {
+                futures.put(outbox, messagingKafkaTemplate.send(toRecord(outbox)));
+            } catch (Exception e) {
+                result.failed.put(outbox, e.getMessage());
+            }
+        }
+
+        for (Map.Entry<Outbox, CompletableFuture<?>> entry : futures.entrySet()) {
+            Outbox outbox = entry.getKey();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                result.succeeded.add(outbox);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.failed.put(outbox, "interrupted");
+            } catch (ExecutionException e) {
+                result.failed.put(outbox, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (TimeoutException e) {
+                result.failed.put(outbox, "Kafka ack timeout");
+            }
+        }
+
+        return result;
+    }
+
+    private ProducerRecord<String, String> toRecord(Outbox outbox) {
+        String topic = messagingProperties.getOutbox().resolveTopic(outbox.getEventType());
+        if (topic == null) {
+            throw new IllegalStateException("발행 토픽이 설정되지 않았습니다: eventType=" + outbox.getEventType());
+        }
+
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(topic, outbox.getAggregateId(), outbox.getPayload());
+        addHeader(record, MessagingHeaders.MESSAGE_ID, outbox.getOutboxId().toString());
+        addHeader(record, MessagingHeaders.EVENT_TYPE, outbox.getEventType());
+        addHeader(record, MessagingHeaders.AGGREGATE_TYPE, outbox.getAggregateType());
+        addHeader(record, MessagingHeaders.AGGREGATE_ID, outbox.getAggregateId());
+        if (outbox.getTraceParent() != null) {
+            addHeader(record, MessagingHeaders.TRACE_PARENT, outbox.getTraceParent());
+        }
+        return record;
+    }
+
+    private static void addHeader(ProducerRecord<String, String> record, String key, String value) {
+        record.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 배치 전송 결과
+     */
+    public static class SendResult {
+
+        private final List<Outbox> succeeded = new ArrayList<>();
+        private final Map<Outbox, String> failed = new LinkedHashMap<>();
+
+        public List<Outbox> getSucceeded() {
+            return succeeded;
+        }
+
+        public Map<Outbox, String> getFailed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.logistics.scm.messaging.outbox.relay;
+
+/**
+ * Outbox Relay 인터페이스
+ * 
+ * outbox_tb에 쌓인 이벤트를 Kafka로 발행합니다.
+ * messaging.outbox.relay 설정에 따라 구현체가 하나만 등록되며, cdc 모드에서는 등록되지 않습니다.
+ */
+public interface OutboxRelay {
+
+    /**
+     * 발행 대상 이벤트 1배치 발행
+     *
+     * @return 처리 건수
+     */
+    int relayBatch();
+}
@@ -0,0 +1,77 @@
+package com.logistics.scm.messaging.outbox.relay;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import com.logistics.scm.messaging.outbox.entity.OutboxStatus;
+import com.logistics.scm.messaging.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Relay 스케줄러
+ * 
+ * - 발행: messaging.outbox.poll-interval-ms 간격으로 등록된 Relay 실행 (cdc 모드에서는 Relay 미등록)
+ * - 정리: 매일 새벽 3시 보관 기간이 지난 이벤트 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final ObjectProvider<OutboxRelay> outboxRelayProvider;
+    private final OutboxRepository outboxRepository;
+    private final MessagingProperties messagingProperties;
+    private final MessagingMetrics messagingMetrics;
+
+    /**
+     * Outbox 이벤트 발행
+     * 배치가 가득 차면 대기 없이 다음 배치를 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${messaging.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        OutboxRelay relay = outboxRelayProvider.getIfAvailable();
+        if (relay == null) {
+            return;
+        }
+
+        int batchSize = messagingProperties.getOutbox().resolveRelayBatchSize();
+        int processed;
+        do {
+            long start = System.nanoTime();
+            try {
+                processed = relay.relayBatch();
+            } catch (Exception e) {
+                log.error("Outbox relay 오류", e);
+                return;
+            }
+            if (processed > 0) {
+                messagingMetrics.recordRelayBatch(processed, System.nanoTime() - start);
+            }
+        } while (processed >= batchSize);
+    }
+
+    /**
+     * 오래된 이벤트 정리
+     * - poll / skip-locked: 발행 완료(PUBLISHED) 이벤트만 삭제
+     * - cdc: 커넥터가 WAL에서 읽으므로 상태와 무관하게 생성 시각 기준 삭제
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    @Transactional
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(messagingProperties.getOutbox().getRetentionDays());
+
+        int deleted = MessagingProperties.RELAY_CDC.equals(messagingProperties.getOutbox().getRelay())
+                ? outboxRepository.deleteCreatedBefore(before)
+                : outboxRepository.deleteByStatusAndPublishedAtBefore(OutboxStatus.PUBLISHED, before);
+
+        if (deleted > 0) {
+            log.info("오래된 Outbox 이벤트 정리 완료: {}건", deleted);
+        }
+    }
+}
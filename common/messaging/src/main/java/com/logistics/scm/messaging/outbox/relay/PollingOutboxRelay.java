@@ -0,0 +1,58 @@
+package com.logistics.scm.messaging.outbox.relay;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+import com.logistics.scm.messaging.outbox.entity.OutboxStatus;
+import com.logistics.scm.messaging.outbox.repository.OutboxRepository;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 폴링 방식 Outbox Relay (기본값)
+ * 
+ * PENDING 이벤트와 재시도 시각이 도래한 FAILED 이벤트를 배치 크기만큼 조회하여 발행합니다.
+ * 행 잠금을 하지 않으므로 서비스 인스턴스가 여러 개일 때는 skip-locked 모드를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "messaging.outbox", name = "relay",
+        havingValue = MessagingProperties.RELAY_POLL, matchIfMissing = true)
+public class PollingOutboxRelay implements OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxService outboxService;
+    private final OutboxKafkaSender outboxKafkaSender;
+    private final MessagingProperties messagingProperties;
+
+    @Override
+    public int relayBatch() {
+        int batchSize = messagingProperties.getOutbox().resolveRelayBatchSize();
+
+        List<Outbox> batch = new ArrayList<>(
+                outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, PageRequest.of(0, batchSize)));
+        if (batch.size() < batchSize) {
+            batch.addAll(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    OutboxStatus.FAILED, LocalDateTime.now(), PageRequest.of(0, batchSize - batch.size())));
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        OutboxKafkaSender.SendResult result = outboxKafkaSender.sendAll(batch);
+        outboxService.markAllAsPublished(result.getSucceeded());
+        result.getFailed().forEach(outboxService::markAsFailed);
+
+        log.debug("Outbox relay 완료: 성공={}, 실패={}", result.getSucceeded().size(), result.getFailed().size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.logistics.scm.messaging.outbox.relay;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+import com.logistics.scm.messaging.outbox.repository.OutboxRepository;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SKIP LOCKED 방식 Outbox Relay
+ * 
+ * SELECT ... FOR UPDATE SKIP LOCKED로 배치를 잠근 트랜잭션 안에서 발행과 상태 갱신을 처리합니다.
+ * 다른 인스턴스가 잠근 행은 건너뛰므로 인스턴스 수만큼 발행 처리량이 늘어나며,
+ * 동일 이벤트가 두 인스턴스에서 중복 발행되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "messaging.outbox", name = "relay",
+        havingValue = MessagingProperties.RELAY_SKIP_LOCKED)
+public class SkipLockedOutboxRelay implements OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxService outboxService;
+    private final OutboxKafkaSender outboxKafkaSender;
+    private final MessagingProperties messagingProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public SkipLockedOutboxRelay(OutboxRepository outboxRepository,
+                                 OutboxService outboxService,
+                                 OutboxKafkaSender outboxKafkaSender,
+                                 MessagingProperties messagingProperties,
+                                 PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.outboxService = outboxService;
+        this.outboxKafkaSender = outboxKafkaSender;
+        this.messagingProperties = messagingProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int relayBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            int batchSize = messagingProperties.getOutbox().resolveRelayBatchSize();
+
+            // 상태별 인덱스를 타도록 PENDING과 재시도 대상 FAILED를 나누어 잠금 (PollingOutboxRelay와 동일한 순서)
+            List<Outbox> batch = new ArrayList<>(outboxRepository.lockPendingBatch(batchSize));
+            if (batch.size() < batchSize) {
+                batch.addAll(outboxRepository.lockRetryBatch(LocalDateTime.now(), batchSize - batch.size()));
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            OutboxKafkaSender.SendResult result = outboxKafkaSender.sendAll(batch);
+            outboxService.markAllAsPublished(result.getSucceeded());
+            result.getFailed().forEach(outboxService::markAsFailed);
+
+            log.debug("Outbox relay 완료(skip-locked): 성공={}, 실패={}",
+                    result.getSucceeded().size(), result.getFailed().size());
+            return batch.size();
+        });
+        return processed != null ? processed : 0;
+    }
+}
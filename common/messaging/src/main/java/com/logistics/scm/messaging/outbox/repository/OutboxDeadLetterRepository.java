@@ -0,0 +1,24 @@
+package com.logistics.scm.messaging.outbox.repository;
+
+import com.logistics.scm.messaging.outbox.entity.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox Dead Letter Repository
+ */
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, UUID> {
+
+    /**
+     * 집계 기준 Dead Letter 조회 (운영 재처리용)
+     *
+     * @param aggregateType 집계 타입
+     * @param aggregateId 집계 ID
+     * @return Dead Letter 목록
+     */
+    List<OutboxDeadLetter> findByAggregateTypeAndAggregateId(String aggregateType, String aggregateId);
+}
@@ -0,0 +1,111 @@
+package com.logistics.scm.messaging.outbox.repository;
+
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+import com.logistics.scm.messaging.outbox.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox Repository
+ */
+@Repository
+public interface OutboxRepository extends JpaRepository<Outbox, UUID> {
+
+    /**
+     * 발행 대기 중인 이벤트 조회
+     * 생성 시각 오름차순 정렬 (오래된 것부터 처리), 배치 크기만큼만 조회
+     *
+     * @param status 상태
+     * @param pageable 배치 크기
+     * @return 발행 대기 중인 Outbox 목록
+     */
+    List<Outbox> findByStatusOrderByCreatedAtAsc(OutboxStatus status, Pageable pageable);
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트 조회
+     * (status, next_attempt_at) 인덱스 범위 스캔으로 due 행만 배치 크기만큼 조회
+     *
+     * @param status 상태
+     * @param now 기준 시각 (next_attempt_at <= now)
+     * @param pageable 배치 크기
+     * @return 재시도 대상 Outbox 목록
+     */
+    List<Outbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            OutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발행 대기 이벤트 조회 및 행 잠금 (SKIP LOCKED)
+     * (status, created_at) 인덱스 순서로 PENDING 행만 읽으며, 다른 인스턴스가 잠근 행은 건너뜀
+     *
+     * @param limit 배치 크기
+     * @return 잠금 획득한 Outbox 목록
+     */
+    @Query(value = "SELECT * FROM outbox_tb " +
+            "WHERE status = 'PENDING' " +
+            "ORDER BY created_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Outbox> lockPendingBatch(@Param("limit") int limit);
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트 조회 및 행 잠금 (SKIP LOCKED)
+     * (status, next_attempt_at) 인덱스 범위 스캔으로 due 행만 읽음
+     *
+     * @param now 재시도 기준 시각 (next_attempt_at <= now)
+     * @param limit 배치 크기
+     * @return 잠금 획득한 Outbox 목록
+     */
+    @Query(value = "SELECT * FROM outbox_tb " +
+            "WHERE status = 'FAILED' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Outbox> lockRetryBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발행 성공 일괄 처리 (행 단위 UPDATE 대신 단일 UPDATE)
+     *
+     * @param ids 발행 성공한 Outbox ID 목록
+     * @param publishedAt 발행 완료 시각
+     * @return 갱신 건수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Outbox o SET o.status = com.logistics.scm.messaging.outbox.entity.OutboxStatus.PUBLISHED, " +
+            "o.publishedAt = :publishedAt, o.updatedAt = :publishedAt, " +
+            "o.nextAttemptAt = null, o.errorMessage = null " +
+            "WHERE o.outboxId IN :ids")
+    int markAllAsPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 완료된 오래된 이벤트 일괄 삭제 (정리용)
+     *
+     * @param status 상태
+     * @param before 발행 완료 시각 기준
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM Outbox o WHERE o.status = :status AND o.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") OutboxStatus status,
+                                           @Param("before") LocalDateTime before);
+
+    /**
+     * 생성 시각 기준 오래된 이벤트 일괄 삭제 (CDC 모드 정리용)
+     *
+     * @param before 생성 시각 기준
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM Outbox o WHERE o.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
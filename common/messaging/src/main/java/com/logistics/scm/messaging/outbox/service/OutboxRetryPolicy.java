@@ -0,0 +1,52 @@
+package com.logistics.scm.messaging.outbox.service;
+
+import com.logistics.scm.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 재시도 정책
+ * 
+ * 지수 백오프 + Full Jitter 방식으로 다음 재시도 시각 계산
+ * - delay = random(0, min(maxInterval, initialInterval * multiplier^(retryCount-1)))
+ * - Kafka 장애 복구 시 실패 이벤트가 한꺼번에 재시도되는 현상(thundering herd) 방지
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRetryPolicy {
+
+    private final MessagingProperties messagingProperties;
+
+    /**
+     * 다음 재시도 시각 계산
+     *
+     * @param retryCount 실패 처리 후의 누적 시도 횟수 (1부터 시작)
+     * @return 다음 재시도 예정 시각
+     */
+    public LocalDateTime nextAttemptAt(int retryCount) {
+        MessagingProperties.RetryProperties retry = messagingProperties.getOutbox().getRetry();
+        double exponential = retry.getInitialIntervalMs() * Math.pow(retry.getMultiplier(), Math.max(0, retryCount - 1));
+        long ceiling = (long) Math.min(retry.getMaxIntervalMs(), exponential);
+        long delayMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        return LocalDateTime.now().plusNanos(delayMs * 1_000_000L);
+    }
+
+    /**
+     * 재시도 횟수 소진 여부
+     *
+     * @param retryCount 누적 시도 횟수
+     */
+    public boolean isExhausted(int retryCount) {
+        return retryCount >= getMaxAttempts();
+    }
+
+    /**
+     * 최대 시도 횟수
+     */
+    public int getMaxAttempts() {
+        return messagingProperties.getOutbox().getRetry().getMaxAttempts();
+    }
+}
@@ -1,6 +1,8 @@
-package com.logistics.scm.oms.inventory.event.outbox.service;
+package com.logistics.scm.messaging.outbox.service;
 
-import com.logistics.scm.oms.inventory.event.outbox.entity.Outbox;
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+
+import java.util.List;
 
 /**
  * Outbox Service 인터페이스
@@ -9,6 +11,7 @@ public interface OutboxService {
 
     /**
      * Outbox 이벤트 저장
+     * 호출한 비즈니스 트랜잭션에 참여하여 원자적으로 저장
      *
      * @param aggregateType 집계 타입
      * @param aggregateId 집계 ID
@@ -20,17 +23,25 @@ public interface OutboxService {
                       String eventType, String payload);
 
     /**
-     * Outbox 발행 성공 처리
+     * Outbox 발행 성공 일괄 처리
      *
-     * @param outbox Outbox
+     * @param outboxes 발행 성공한 Outbox 목록
      */
-    void markAsPublished(Outbox outbox);
+    void markAllAsPublished(List<Outbox> outboxes);
 
     /**
      * Outbox 발행 실패 처리
+     * 다음 재시도 시각을 백오프 정책으로 계산하고, 재시도 횟수 소진 시 Dead Letter로 이관
      *
      * @param outbox Outbox
      * @param errorMessage 오류 메시지
      */
     void markAsFailed(Outbox outbox, String errorMessage);
+
+    /**
+     * Outbox를 Dead Letter 테이블로 이관
+     *
+     * @param outbox 재시도 소진된 Outbox
+     */
+    void moveToDeadLetter(Outbox outbox);
 }
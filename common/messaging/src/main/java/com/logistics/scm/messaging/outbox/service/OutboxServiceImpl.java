@@ -0,0 +1,84 @@
+package com.logistics.scm.messaging.outbox.service;
+
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import com.logistics.scm.messaging.outbox.entity.Outbox;
+import com.logistics.scm.messaging.outbox.entity.OutboxDeadLetter;
+import com.logistics.scm.messaging.outbox.repository.OutboxDeadLetterRepository;
+import com.logistics.scm.messaging.outbox.repository.OutboxRepository;
+import com.logistics.scm.messaging.trace.TraceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Service 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final MessagingMetrics messagingMetrics;
+
+    @Override
+    @Transactional
+    public Outbox saveOutbox(String aggregateType, String aggregateId, 
+                            String eventType, String payload) {
+        log.debug("Outbox 이벤트 저장: aggregateType={}, aggregateId={}, eventType={}", 
+                aggregateType, aggregateId, eventType);
+
+        Outbox outbox = Outbox.create(aggregateType, aggregateId, eventType, payload, TraceContext.nextSpan());
+        return outboxRepository.save(outbox);
+    }
+
+    @Override
+    @Transactional
+    public void markAllAsPublished(List<Outbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        int updated = outboxRepository.markAllAsPublished(
+                outboxes.stream().map(Outbox::getOutboxId).toList(), publishedAt);
+        log.debug("Outbox 발행 성공 일괄 처리: {}건", updated);
+
+        for (Outbox outbox : outboxes) {
+            messagingMetrics.recordPublished(outbox.getEventType(), outbox.getCreatedAt(), publishedAt);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markAsFailed(Outbox outbox, String errorMessage) {
+        int attempts = outbox.getRetryCount() + 1;
+        outbox.markAsFailed(errorMessage, outboxRetryPolicy.nextAttemptAt(attempts));
+        messagingMetrics.recordFailed(outbox.getEventType());
+
+        if (outboxRetryPolicy.isExhausted(attempts)) {
+            moveToDeadLetter(outbox);
+            return;
+        }
+
+        log.warn("Outbox 발행 실패 처리: outboxId={}, retryCount={}, nextAttemptAt={}, error={}",
+                outbox.getId(), outbox.getRetryCount(), outbox.getNextAttemptAt(), errorMessage);
+        outboxRepository.save(outbox);
+    }
+
+    @Override
+    @Transactional
+    public void moveToDeadLetter(Outbox outbox) {
+        log.error("Outbox 재시도 소진, Dead Letter 이관: outboxId={}, eventType={}, retryCount={}",
+                outbox.getId(), outbox.getEventType(), outbox.getRetryCount());
+        outboxDeadLetterRepository.save(OutboxDeadLetter.from(outbox));
+        outboxRepository.deleteById(outbox.getId());
+        messagingMetrics.recordDeadLettered(outbox.getEventType());
+    }
+}
@@ -0,0 +1,78 @@
+package com.logistics.scm.messaging.trace;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context (traceparent) 보관소
+ * 
+ * Saga 구간(주문 생성 → Outbox 발행 → 재고 예약 → 주문 확정)을 하나의 trace-id로 묶기 위해
+ * 현재 스레드의 traceparent를 보관합니다.
+ * - Outbox 저장 시: 현재 traceparent의 trace-id를 이어받은 새 span으로 outbox_tb.trace_parent에 기록
+ * - Kafka 발행 시: traceparent 헤더로 전달
+ * - Kafka 수신 시: TracingRecordInterceptor가 헤더 값을 현재 스레드에 설정
+ * 
+ * 형식: {version}-{trace-id 32hex}-{parent-id 16hex}-{flags} (예: 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01)
+ */
+public final class TraceContext {
+
+    private static final String VERSION = "00";
+    private static final String FLAGS_SAMPLED = "01";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    /**
+     * 현재 스레드의 traceparent
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 traceparent 설정 (형식이 올바르지 않으면 무시)
+     */
+    public static void set(String traceParent) {
+        if (isValid(traceParent)) {
+            CURRENT.set(traceParent);
+        }
+    }
+
+    /**
+     * 현재 스레드의 traceparent 제거
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 다음 span의 traceparent 생성
+     * 현재 trace가 있으면 trace-id를 유지하고 parent-id만 새로 발급, 없으면 새 trace 시작
+     */
+    public static String nextSpan() {
+        String current = CURRENT.get();
+        String traceId = current != null ? traceIdOf(current) : randomHex(16);
+        return VERSION + "-" + traceId + "-" + randomHex(8) + "-" + FLAGS_SAMPLED;
+    }
+
+    /**
+     * traceparent에서 trace-id 추출
+     */
+    public static String traceIdOf(String traceParent) {
+        return isValid(traceParent) ? traceParent.substring(3, 35) : null;
+    }
+
+    private static boolean isValid(String traceParent) {
+        return traceParent != null && traceParent.length() == 55
+                && traceParent.charAt(2) == '-' && traceParent.charAt(35) == '-' && traceParent.charAt(52) == '-';
+    }
+
+    private static String randomHex(int bytes) {
+        byte[] buffer = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(buffer);
+        return HEX.formatHex(buffer);
+    }
+}
@@ -1,5 +1,6 @@
 package com.scm.notification.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.notification.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -31,7 +32,7 @@ import java.util.UUID;
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "notification_id", columnDefinition = "uuid")
     private UUID notificationId;
 
@@ -0,0 +1,26 @@
+package com.logistics.scm.gateway.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 집계 응답
+ *
+ * @param status  HTTP 상태
+ * @param body    응답 본문
+ * @param partial 일부 구성 요소가 빠진 부분 결과 여부
+ */
+public record AggregationResult(HttpStatus status, JsonNode body, boolean partial) {
+
+    /**
+     * 다른 Gateway 에러 응답과 같은 형식 ({"error": ..., "status": ...})
+     */
+    public static AggregationResult error(HttpStatus status, String message) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode();
+        body.put("error", message);
+        body.put("status", status.value());
+        return new AggregationResult(status, body, false);
+    }
+}
@@ -0,0 +1,189 @@
+package com.logistics.scm.gateway.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상세 화면 집계
+ *
+ * 주문 상세 화면이 호출하던 세 API를 Gateway에서 한 번에 조합합니다.
+ * - order-service: 주문 (필수 - 없으면 404, 실패하면 502/504)
+ * - delivery-service: 주문의 배송 정보 (주문 조회와 병렬)
+ * - inventory-service: 주문 상품별 재고 (주문 응답의 상품 코드로 병렬 조회)
+ *
+ * 각 부분은 gateway.aggregation.order-detail.*-timeout 안에 응답하지 않거나 실패하면 null로 두고
+ * errors에 사유(timeout, circuit_open, unavailable)를 기록하여 부분 결과를 반환합니다.
+ * 백엔드 호출은 라우트와 같은 이름의 Circuit Breaker를 공유하므로, 장애 서비스는 즉시 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class OrderDetailAggregator {
+
+    private static final String ORDER_SERVICE = "order-service";
+    private static final String INVENTORY_SERVICE = "inventory-service";
+    private static final String DELIVERY_SERVICE = "delivery-service";
+
+    private static final String ORDER_PATH = "/api/v1/orders/{orderId}";
+    private static final String INVENTORY_PATH = "/api/v1/inventories/product/{productCode}";
+
+    private final WebClient webClient;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private final ObjectMapper objectMapper;
+    private final String deliveryPath;
+    private final Duration orderTimeout;
+    private final Duration inventoryTimeout;
+    private final Duration deliveryTimeout;
+    private final int inventoryConcurrency;
+
+    public OrderDetailAggregator(@LoadBalanced WebClient.Builder loadBalancedWebClientBuilder,
+                                 ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+                                 ObjectMapper objectMapper,
+                                 @Value("${gateway.aggregation.order-detail.delivery-path:/api/v1/deliveries/order/{orderId}}") String deliveryPath,
+                                 @Value("${gateway.aggregation.order-detail.order-timeout:2s}") Duration orderTimeout,
+                                 @Value("${gateway.aggregation.order-detail.inventory-timeout:1s}") Duration inventoryTimeout,
+                                 @Value("${gateway.aggregation.order-detail.delivery-timeout:1s}") Duration deliveryTimeout,
+                                 @Value("${gateway.aggregation.order-detail.inventory-concurrency:8}") int inventoryConcurrency) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.circuitBreakerFactory = circuitBreakerFactory;
+        this.objectMapper = objectMapper;
+        this.deliveryPath = deliveryPath;
+        this.orderTimeout = orderTimeout;
+        this.inventoryTimeout = inventoryTimeout;
+        this.deliveryTimeout = deliveryTimeout;
+        this.inventoryConcurrency = inventoryConcurrency;
+    }
+
+    /**
+     * 주문 상세 집계
+     *
+     * @param orderId 주문 ID
+     * @param headers 백엔드로 전달할 요청 헤더 (인증 필터가 추가한 사용자 헤더 포함)
+     */
+    public Mono<AggregationResult> aggregate(String orderId, HttpHeaders headers) {
+        Mono<PartResult> order = fetch(ORDER_SERVICE, ORDER_PATH, orderTimeout, headers, orderId).cache();
+        Mono<PartResult> delivery = fetch(DELIVERY_SERVICE, deliveryPath, deliveryTimeout, headers, orderId);
+        Mono<PartResult> inventories = order.flatMap(part -> part.isPresent()
+                ? fetchInventories(part.data(), headers)
+                : Mono.just(PartResult.notFound()));
+
+        return Mono.zip(order, inventories, delivery)
+                .map(parts -> compose(orderId, parts.getT1(), parts.getT2(), parts.getT3()));
+    }
+
+    private AggregationResult compose(String orderId, PartResult order, PartResult inventories, PartResult delivery) {
+        if (order.isFailed()) {
+            HttpStatus status = PartResult.TIMEOUT.equals(order.error())
+                    ? HttpStatus.GATEWAY_TIMEOUT
+                    : HttpStatus.BAD_GATEWAY;
+            return AggregationResult.error(status, "Order service " + order.error());
+        }
+        if (!order.isPresent()) {
+            return AggregationResult.error(HttpStatus.NOT_FOUND, "Order not found");
+        }
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("orderId", orderId);
+        body.set("order", order.data());
+        body.set("inventories", inventories.data());
+        body.set("delivery", delivery.data());
+
+        ObjectNode errors = objectMapper.createObjectNode();
+        if (inventories.isFailed()) {
+            errors.put("inventories", inventories.error());
+        }
+        if (delivery.isFailed()) {
+            errors.put("delivery", delivery.error());
+        }
+        boolean partial = !errors.isEmpty();
+        body.put("partial", partial);
+        if (partial) {
+            body.set("errors", errors);
+        }
+        return new AggregationResult(HttpStatus.OK, body, partial);
+    }
+
+    /**
+     * 주문 상품 코드별 재고 조회 (상품 하나라도 실패하면 해당 상품은 빠지고 부분 결과로 표시)
+     */
+    private Mono<PartResult> fetchInventories(JsonNode order, HttpHeaders headers) {
+        Set<String> productCodes = new LinkedHashSet<>();
+        order.path("items").forEach(item -> {
+            String productCode = item.path("productCode").asText(null);
+            if (productCode != null) {
+                productCodes.add(productCode);
+            }
+        });
+
+        return Flux.fromIterable(productCodes)
+                .flatMap(productCode -> fetch(INVENTORY_SERVICE, INVENTORY_PATH, inventoryTimeout, headers, productCode)
+                        .map(part -> Map.entry(productCode, part)), inventoryConcurrency)
+                .collectList()
+                .map(entries -> {
+                    ObjectNode byProduct = objectMapper.createObjectNode();
+                    String error = null;
+                    for (Map.Entry<String, PartResult> entry : entries) {
+                        if (entry.getValue().isFailed()) {
+                            error = entry.getValue().error();
+                        }
+                        byProduct.set(entry.getKey(), entry.getValue().data());
+                    }
+                    return new PartResult(byProduct, error);
+                });
+    }
+
+    /**
+     * 백엔드 GET 호출 (ApiResponse의 data만 추출, 404는 미존재)
+     */
+    private Mono<PartResult> fetch(String serviceId, String pathTemplate, Duration timeout,
+                                   HttpHeaders headers, Object... uriVariables) {
+        URI uri = UriComponentsBuilder.newInstance()
+                .scheme("http")
+                .host(serviceId)
+                .path(pathTemplate)
+                .buildAndExpand(uriVariables)
+                .encode()
+                .toUri();
+
+        Mono<JsonNode> call = webClient.get()
+                .uri(uri)
+                .headers(h -> h.addAll(headers))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(JsonNode.class);
+                    }
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    return response.createError();
+                })
+                .map(node -> node.has("data") ? node.get("data") : node)
+                .timeout(timeout);
+
+        return circuitBreakerFactory.create(serviceId).run(call)
+                .map(PartResult::of)
+                .defaultIfEmpty(PartResult.notFound())
+                .onErrorResume(error -> {
+                    log.warn("Order detail part failed - service: {}, path: {}, cause: {}",
+                            serviceId, uri.getPath(), error.toString());
+                    return Mono.just(PartResult.failed(error));
+                });
+    }
+}
@@ -0,0 +1,45 @@
+package com.logistics.scm.gateway.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 집계 응답의 부분 결과
+ *
+ * @param data  백엔드 응답의 data (없거나 실패하면 null)
+ * @param error 실패 사유 (성공/미존재면 null)
+ */
+public record PartResult(JsonNode data, String error) {
+
+    public static final String TIMEOUT = "timeout";
+    public static final String CIRCUIT_OPEN = "circuit_open";
+    public static final String UNAVAILABLE = "unavailable";
+
+    public static PartResult of(JsonNode data) {
+        return new PartResult(data, null);
+    }
+
+    public static PartResult notFound() {
+        return new PartResult(null, null);
+    }
+
+    public static PartResult failed(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return new PartResult(null, TIMEOUT);
+        }
+        if (cause instanceof CallNotPermittedException) {
+            return new PartResult(null, CIRCUIT_OPEN);
+        }
+        return new PartResult(null, UNAVAILABLE);
+    }
+
+    public boolean isPresent() {
+        return data != null;
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.logistics.scm.gateway.cache;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+
+/**
+ * Gateway에 캐시된 GET 응답
+ *
+ * 상태 200 응답의 본문과 Content-Type만 보관하며, ETag는 본문 MD5로 계산합니다.
+ * (Spring ShallowEtagHeaderFilter와 같은 "0" + MD5 hex 형식)
+ *
+ * @param contentType 응답 Content-Type (없으면 null)
+ * @param body        응답 본문
+ * @param etag        강한 ETag (따옴표 포함)
+ * @param ttl         캐시 유지 시간
+ */
+public record CachedResponse(MediaType contentType, byte[] body, String etag, Duration ttl) {
+
+    public static CachedResponse of(MediaType contentType, byte[] body, Duration ttl) {
+        return new CachedResponse(contentType, body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"", ttl);
+    }
+
+    /**
+     * If-None-Match 헤더 값이 이 응답의 ETag와 일치하는지 확인 (목록/와일드카드 포함)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시 용량 계산용 크기 (본문 + 고정 오버헤드 추정치)
+     */
+    int weight() {
+        return body.length + 128;
+    }
+}
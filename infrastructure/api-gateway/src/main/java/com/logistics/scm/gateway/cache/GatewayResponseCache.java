@@ -0,0 +1,87 @@
+package com.logistics.scm.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gateway GET 응답 캐시 저장소
+ *
+ * - 저장: Caffeine, 전체 본문 크기 합계(maximum-weight, byte)로 메모리 상한
+ * - 만료: 엔트리마다 라우트에 지정한 TTL
+ * - Single-flight: 같은 키의 동시 미스는 첫 요청(leader)만 백엔드로 보내고,
+ *   나머지(follower)는 leader 응답을 {@link Sinks.One}으로 받아 재사용
+ * - 지표: cache.gets/puts/evictions (cache=gateway.response)
+ */
+@Component
+public class GatewayResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    private final ConcurrentMap<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final int maxEntrySize;
+
+    public GatewayResponseCache(MeterRegistry meterRegistry,
+                                @Value("${gateway.response-cache.maximum-weight:67108864}") long maximumWeight,
+                                @Value("${gateway.response-cache.max-entry-size:1048576}") int maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime,
+                                                  long currentDuration) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response");
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        if (response.body().length <= maxEntrySize) {
+            cache.put(key, response);
+        }
+    }
+
+    public int maxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * leader 등록 시도
+     *
+     * @return 이미 진행 중인 leader가 있으면 그 Sink (follower로 대기), 없으면 null (호출자가 leader)
+     */
+    public Sinks.One<CachedResponse> joinInFlight(String key, Sinks.One<CachedResponse> leader) {
+        return inFlight.putIfAbsent(key, leader);
+    }
+
+    public void completeInFlight(String key, Sinks.One<CachedResponse> leader) {
+        inFlight.remove(key, leader);
+    }
+}
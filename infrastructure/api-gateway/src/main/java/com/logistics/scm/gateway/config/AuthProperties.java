@@ -0,0 +1,40 @@
+package com.logistics.scm.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 인증 설정 Properties
+ * 
+ * application.yml의 gateway.auth.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.auth")
+public class AuthProperties {
+
+    /**
+     * JWT 인증 제외 경로 (Spring PathPattern 문법, Gateway 요청 경로 기준)
+     * 
+     * - 와일드카드가 없는 경로는 정확히 일치할 때만 제외
+     * - "/*" 접두사로 서비스 라우트 경로(/order-service/...)까지 포함
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of(
+            "/actuator/health/**",
+            "/*/actuator/health/**",
+            "/swagger-ui/**",
+            "/*/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/*/v3/api-docs/**",
+            "/api-docs/**",
+            "/*/api-docs/**",
+            "/eureka/**",
+            "/api/v1/auth/login",
+            "/*/api/v1/auth/login"));
+}
@@ -0,0 +1,29 @@
+package com.logistics.scm.gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * 백엔드 호출용 HTTP 클라이언트 설정
+ * 
+ * h2c(평문 HTTP/2)를 사용하면 한 연결에서 여러 요청을 다중화하여,
+ * 요청마다 연결을 점유하던 HTTP/1.1 대비 연결 수와 헤더 전송량(HPACK)이 줄어듭니다.
+ * 
+ * - gateway.backend.h2c-enabled=true: HTTP/1.1 Upgrade로 h2c 협상, 백엔드가 지원하지 않으면 HTTP/1.1 유지
+ * - 백엔드 서비스는 server.http2.enabled=true 필요 (Tomcat h2c)
+ * - 연결 풀 크기/유휴 시간은 spring.cloud.gateway.httpclient.pool.*
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClientCustomizer backendProtocolCustomizer(
+            @Value("${gateway.backend.h2c-enabled:true}") boolean h2cEnabled) {
+        return httpClient -> h2cEnabled
+                ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : httpClient;
+    }
+}
@@ -0,0 +1,34 @@
+package com.logistics.scm.gateway.config;
+
+import com.logistics.scm.gateway.loadbalancer.LatencyAwareLoadBalancerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 백엔드 로드 밸런싱 설정
+ * 
+ * - gateway.load-balancer.strategy=peak-ewma(기본): 모든 lb:// 서비스에 지연 시간 기반 선택 적용
+ * - strategy=round-robin: Spring Cloud LoadBalancer 기본(라운드 로빈) 유지
+ */
+@Configuration
+public class LoadBalancerConfig {
+
+    /**
+     * Gateway 내부에서 백엔드를 직접 호출할 때 사용하는 WebClient (서비스 ID로 호출, 동일한 로드 밸런서 적용)
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "gateway.load-balancer.strategy", havingValue = "peak-ewma", matchIfMissing = true)
+    @LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfig.class)
+    static class PeakEwmaLoadBalancerConfig {
+    }
+}
@@ -2,11 +2,16 @@ package com.logistics.scm.gateway.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 /**
  * Redis Configuration
  * 
@@ -40,4 +45,26 @@ public class RedisConfig {
         
         return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
     }
+
+    /**
+     * 토큰 버킷 Rate Limiter Lua 스크립트
+     * 
+     * 반환: { 지급 토큰 수, 남은 토큰 수 }
+     */
+    @Bean
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RedisScript<List<Long>> tokenBucketScript() {
+        return (RedisScript) RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 
+     * 토큰 폐기 이벤트(token:revoked)를 수신하여 로컬 폐기 집합을 갱신합니다.
+     */
+    @Bean
+    public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
 }
@@ -0,0 +1,85 @@
+package com.logistics.scm.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 라우트별 장애 격리 설정 Properties
+ * 
+ * application.yml의 gateway.resilience.* 속성을 바인딩합니다.
+ * 키는 CircuitBreaker/BulkheadFilter의 name (라우트 ID와 동일하게 사용)이며,
+ * 지정하지 않은 라우트는 defaults를 따릅니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class ResilienceProperties {
+
+    private Policy defaults = new Policy();
+
+    private Map<String, Policy> routes = new HashMap<>();
+
+    public Policy policyOf(String name) {
+        return routes.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 응답 제한 시간 (초과 시 fallback, 실패로 집계)
+         */
+        private Duration timeout = Duration.ofSeconds(3);
+
+        /**
+         * 실패율 임계치 (%) - 초과 시 OPEN
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 느린 호출 기준 시간
+         */
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+        /**
+         * 느린 호출 비율 임계치 (%) - 초과 시 OPEN
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * 실패율 계산 구간 (최근 호출 수)
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * 실패율 계산 최소 호출 수
+         */
+        private int minimumNumberOfCalls = 20;
+
+        /**
+         * OPEN 유지 시간 (이후 HALF_OPEN)
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+        /**
+         * HALF_OPEN 상태 시험 호출 수
+         */
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+
+        /**
+         * 동시 처리 최대 요청 수 (세마포어 Bulkhead)
+         */
+        private int maxConcurrentCalls = 100;
+
+        /**
+         * Bulkhead 여유가 없을 때 대기 시간 (0이면 즉시 거절)
+         */
+        private Duration maxWaitDuration = Duration.ZERO;
+    }
+}
@@ -0,0 +1,188 @@
+package com.logistics.scm.gateway.filter;
+
+import com.logistics.scm.gateway.loadbalancer.HedgingStats;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hedged Request 필터 (멱등 GET 전용)
+ * 
+ * 첫 요청이 라우트의 최근 p95 응답 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ * 먼저 완료된 응답을 반환합니다. 일부 인스턴스의 일시적 지연(GC, 느린 노드)이 꼬리 지연으로 번지는 것을 줄입니다.
+ * 
+ * <pre>
+ * filters:
+ *   - name: HedgedRequestFilter
+ *     args:
+ *       paths:                  # 필수 - 라우팅 대상 경로 기준 (StripPrefix 이후), 응답이 작은 멱등 조회만 지정
+ *         - /api/v1/products/code/*
+ *       maxResponseSize: 64KB   # 응답 본문 버퍼 상한 (초과 시 오류 → Circuit Breaker fallback)
+ *       minDelay: 20ms
+ *       maxDelay: 500ms
+ *       budgetPercent: 10
+ * </pre>
+ * 
+ * - 대기 시간 = p95 (minDelay ~ maxDelay 범위로 보정, 표본이 부족하면 maxDelay)
+ * - Hedge 요청은 전체 요청의 budgetPercent% 이내 (과부하 시 부하 증폭 방지)
+ * - 두 번째 요청도 로드 밸런서를 거치므로 처리 중 요청이 많은 인스턴스는 피해서 선택됨
+ * - 먼저 응답한 쪽이 정해지면 나머지 요청은 취소, 클라이언트 연결 종료/Circuit Breaker Time Limiter 초과 시에도 두 요청 모두 취소
+ *   (응답 헤더 수신 전에 취소된 요청은 로드 밸런서 완료 콜백이 오지 않으며, PeakEwmaLoadBalancer의 stale 초기화로 보정)
+ * 
+ * paths에 일치하는 GET 요청만 Gateway 라우팅 대신 이 필터가 @LoadBalanced WebClient로 직접 전달하고 응답 본문을 버퍼링합니다.
+ * WebClient는 Gateway 라우팅과 같은 HttpClient(spring.cloud.gateway.httpclient: h2c, 연결 풀, connect/response timeout)를 사용합니다.
+ * paths를 지정하지 않으면 아무 요청도 hedge하지 않으며, 그 외 요청은 기존 라우팅을 그대로 탑니다.
+ * (CircuitBreaker 필터 뒤에 배치하여 Circuit Breaker / Bulkhead 보호를 그대로 받음)
+ */
+@Component
+public class HedgedRequestFilter extends AbstractGatewayFilterFactory<HedgedRequestFilter.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedRequestFilter.class);
+
+    private final WebClient.Builder loadBalancedWebClientBuilder;
+    private final HttpClient httpClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    public HedgedRequestFilter(@LoadBalanced WebClient.Builder loadBalancedWebClientBuilder,
+                               HttpClient httpClient,
+                               ObjectProvider<List<HttpHeadersFilter>> headersFilters) {
+        super(Config.class);
+        this.loadBalancedWebClientBuilder = loadBalancedWebClientBuilder;
+        this.httpClient = httpClient;
+        this.headersFilters = headersFilters;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            patterns.add(PathPatternParser.defaultInstance.parse(path));
+        }
+        if (patterns.isEmpty()) {
+            log.warn("HedgedRequestFilter has no paths configured - hedging disabled");
+        }
+
+        HedgingStats stats = new HedgingStats(config.getBudgetPercent());
+        WebClient webClient = loadBalancedWebClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) config.getMaxResponseSize().toBytes()))
+                .build();
+
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || !matches(patterns, exchange)) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null || !"lb".equals(route.getUri().getScheme())) {
+                return chain.filter(exchange);
+            }
+
+            URI target = UriComponentsBuilder.fromUri(exchange.getRequest().getURI())
+                    .scheme("http")
+                    .host(route.getUri().getHost())
+                    .port(-1)
+                    .build(true)
+                    .toUri();
+            HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange);
+            headers.remove(HttpHeaders.HOST);
+
+            stats.recordRequest();
+            long startTime = System.nanoTime();
+            Duration delay = hedgeDelay(stats, config);
+
+            Mono<ResponseEntity<byte[]>> primary = send(webClient, target, headers);
+            Mono<ResponseEntity<byte[]>> hedge = Mono.delay(delay)
+                    .filter(tick -> stats.tryAcquireHedge())
+                    .doOnNext(tick -> log.debug("Hedging request - path: {}, delay: {}ms",
+                            target.getPath(), delay.toMillis()))
+                    .flatMap(tick -> send(webClient, target, headers));
+
+            return Mono.firstWithValue(primary, hedge)
+                    .doOnNext(entity -> stats.recordLatency(System.nanoTime() - startTime))
+                    .flatMap(entity -> writeResponse(exchange, entity));
+        };
+    }
+
+    private boolean matches(List<PathPattern> patterns, ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 응답 본문까지 받아 완료되는 요청 (구독 취소 시 백엔드 요청도 취소, 본문은 maxResponseSize까지만 버퍼링)
+     */
+    private Mono<ResponseEntity<byte[]>> send(WebClient webClient, URI target, HttpHeaders headers) {
+        return webClient.get()
+                .uri(target)
+                .headers(h -> h.addAll(headers))
+                .exchangeToMono(response -> response.toEntity(byte[].class));
+    }
+
+    private Mono<Void> writeResponse(ServerWebExchange exchange, ResponseEntity<byte[]> entity) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(entity.getStatusCode());
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(), entity.getHeaders(),
+                exchange, HttpHeadersFilter.Type.RESPONSE);
+        filtered.remove(HttpHeaders.TRANSFER_ENCODING);
+        filtered.remove(HttpHeaders.CONTENT_LENGTH);
+        response.getHeaders().putAll(filtered);
+
+        byte[] body = entity.getBody();
+        if (body == null || body.length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private Duration hedgeDelay(HedgingStats stats, Config config) {
+        long p95 = stats.p95Nanos();
+        if (p95 == 0) {
+            return config.getMaxDelay();
+        }
+        long clamped = Math.max(config.getMinDelay().toNanos(), Math.min(config.getMaxDelay().toNanos(), p95));
+        return Duration.ofNanos(clamped);
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private List<String> paths = new ArrayList<>();
+        private DataSize maxResponseSize = DataSize.ofKilobytes(64);
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofMillis(500);
+        private int budgetPercent = 10;
+    }
+}
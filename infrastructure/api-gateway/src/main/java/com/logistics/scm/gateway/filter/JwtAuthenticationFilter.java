@@ -1,10 +1,14 @@
 package com.logistics.scm.gateway.filter;
 
-import com.logistics.scm.gateway.security.JwtTokenProvider;
+import com.logistics.scm.gateway.security.ExcludedPathMatcher;
+import com.logistics.scm.gateway.security.JwtClaims;
 import com.logistics.scm.gateway.security.TokenBlacklistService;
+import com.logistics.scm.gateway.security.VerifiedClaimsCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -12,22 +16,30 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
 /**
  * JWT 인증 필터
  * 
  * API Gateway를 통과하는 모든 요청에서 JWT 토큰을 검증합니다.
  * 
- * 인증 제외 경로:
+ * 인증 제외 경로 (gateway.auth.excluded-paths, 시작 시 ExcludedPathMatcher로 컴파일):
  * - /actuator/health (헬스 체크)
  * - /swagger-ui/** (Swagger UI)
  * - /v3/api-docs/** (OpenAPI Docs)
- * - /api/v1/auth/** (인증 API)
+ * - /api/v1/auth/login (로그인)
  * 
  * 블랙리스트 체크:
  * - 로그아웃된 토큰은 Redis 블랙리스트에서 확인하여 차단
  * 
+ * 토큰 검증:
+ * - 요청당 한 번만 파싱하여 사용자명/역할을 함께 추출
+ * - 검증된 클레임은 VerifiedClaimsCache에 토큰 exp까지 캐시
+ * 
  * @author c.h.jo
  * @since 2026-01-28
  */
@@ -37,56 +49,72 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenProvider jwtTokenProvider;
+    /**
+     * 검증된 JwtClaims를 담는 exchange attribute (Rate Limit 등 후속 필터에서 사용)
+     */
+    public static final String CLAIMS_ATTR = JwtAuthenticationFilter.class.getName() + ".claims";
+
+    /**
+     * 필터 순서 - 응답 캐시(ResponseCacheFilter) 등 NettyWriteResponseFilter 앞에서 동작하는 필터보다 먼저 인증
+     */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 10;
+
+    private final VerifiedClaimsCache verifiedClaimsCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final ExcludedPathMatcher excludedPathMatcher;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, 
-                                   TokenBlacklistService tokenBlacklistService) {
+    public JwtAuthenticationFilter(VerifiedClaimsCache verifiedClaimsCache, 
+                                   TokenBlacklistService tokenBlacklistService,
+                                   ExcludedPathMatcher excludedPathMatcher) {
         super(Config.class);
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedClaimsCache = verifiedClaimsCache;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.excludedPathMatcher = excludedPathMatcher;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
+        return new OrderedGatewayFilter((exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
-            String path = request.getURI().getPath();
 
             // 인증 제외 경로 체크
-            if (isExcludedPath(path)) {
-                log.debug("Skipping JWT validation for excluded path: {}", path);
+            if (excludedPathMatcher.matches(request.getPath().pathWithinApplication())) {
+                log.debug("Skipping JWT validation for excluded path: {}", request.getPath());
                 return chain.filter(exchange);
             }
+            String path = request.getPath().value();
 
             // Authorization 헤더 추출
             String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
             
             if (!StringUtils.hasText(authHeader) || !authHeader.startsWith(BEARER_PREFIX)) {
                 log.warn("Missing or invalid Authorization header for path: {}", path);
-                return onError(exchange, "Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+                return onError(exchange, AuthError.MISSING_TOKEN);
             }
 
             // Bearer 접두사 제거
             String token = authHeader.substring(BEARER_PREFIX.length());
 
-            // 1. 토큰 검증
-            if (!jwtTokenProvider.validateToken(token)) {
+            // 1. 토큰 검증 (1회 파싱 + 클레임 캐시)
+            Optional<JwtClaims> verified = verifiedClaimsCache.verify(token);
+            if (verified.isEmpty()) {
                 log.warn("Invalid JWT token for path: {}", path);
-                return onError(exchange, "Invalid or expired JWT token", HttpStatus.UNAUTHORIZED);
+                return onError(exchange, AuthError.INVALID_TOKEN);
             }
 
             // 2. 블랙리스트 확인 (Reactive)
-            return tokenBlacklistService.isBlacklisted(token)
+            return tokenBlacklistService.isBlacklisted(token, verified.get())
                     .flatMap(isBlacklisted -> {
                         if (Boolean.TRUE.equals(isBlacklisted)) {
                             log.warn("Blocked blacklisted token for path: {}", path);
-                            return onError(exchange, "Token has been revoked", HttpStatus.UNAUTHORIZED);
+                            return onError(exchange, AuthError.REVOKED_TOKEN);
                         }
 
                         // 3. 사용자 정보 추출 및 헤더에 추가
-                        String username = jwtTokenProvider.getUsername(token);
-                        String role = jwtTokenProvider.getRole(token);
+                        JwtClaims claims = verified.get();
+                        exchange.getAttributes().put(CLAIMS_ATTR, claims);
+                        String username = claims.username();
+                        String role = claims.role();
 
                         log.debug("JWT validation successful - username: {}, role: {}, path: {}", 
                                  username, role, path);
@@ -99,41 +127,36 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
                         return chain.filter(exchange.mutate().request(modifiedRequest).build());
                     });
-        };
+        }, ORDER);
     }
 
     /**
-     * 인증 제외 경로 확인
-     * 
-     * JWT 검증을 하지 않을 경로들을 정의합니다.
-     * - /api/v1/auth/login: 로그인 (토큰 발급)
-     * - /actuator/health: 헬스 체크
-     * - Swagger 관련 경로들
+     * 인증 실패 시 에러 응답 (미리 직렬화해 둔 본문을 그대로 전송)
      */
-    private boolean isExcludedPath(String path) {
-        return path.contains("/actuator/health") ||
-               path.contains("/swagger-ui") ||
-               path.contains("/v3/api-docs") ||
-               path.contains("/api-docs") ||
-               path.startsWith("/eureka") ||
-               path.equals("/api/v1/auth/login"); // login만 제외
+    private Mono<Void> onError(ServerWebExchange exchange, AuthError error) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(error.status);
+        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+        response.getHeaders().setContentLength(error.body.length);
+        
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(error.body)));
     }
 
     /**
-     * 인증 실패 시 에러 응답
+     * 인증 실패 유형 - 응답 본문은 클래스 로딩 시 한 번만 직렬화
      */
-    private Mono<Void> onError(org.springframework.web.server.ServerWebExchange exchange, 
-                               String errorMessage, 
-                               HttpStatus httpStatus) {
-        ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(httpStatus);
-        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
-        
-        String errorJson = String.format("{\"error\": \"%s\", \"status\": %d}", 
-                                        errorMessage, httpStatus.value());
-        
-        return response.writeWith(Mono.just(response.bufferFactory()
-                .wrap(errorJson.getBytes())));
+    private enum AuthError {
+        MISSING_TOKEN("Missing or invalid Authorization header"),
+        INVALID_TOKEN("Invalid or expired JWT token"),
+        REVOKED_TOKEN("Token has been revoked");
+
+        private final HttpStatus status = HttpStatus.UNAUTHORIZED;
+        private final byte[] body;
+
+        AuthError(String message) {
+            this.body = ("{\"error\": \"" + message + "\", \"status\": " + status.value() + "}")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
     }
 
     public static class Config {
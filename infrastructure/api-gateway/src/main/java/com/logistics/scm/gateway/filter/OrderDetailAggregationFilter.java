@@ -0,0 +1,92 @@
+package com.logistics.scm.gateway.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.gateway.aggregation.AggregationResult;
+import com.logistics.scm.gateway.aggregation.OrderDetailAggregator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상세 집계 필터 (Composite Route)
+ * 
+ * 클라이언트가 주문/재고/배송 API를 순차로 세 번 호출하던 것을 한 번의 요청으로 줄입니다.
+ * 백엔드로 라우팅하지 않고 {@link OrderDetailAggregator}의 집계 결과로 응답합니다.
+ * 
+ * <pre>
+ * - id: order-detail-composite
+ *   uri: no://op
+ *   predicates:
+ *     - Path=/api/v1/composite/orders/{orderId}
+ *     - Method=GET
+ *   filters:
+ *     - OrderDetailAggregationFilter
+ * </pre>
+ * 
+ * 일부 구성 요소가 실패하면 200과 함께 partial=true, X-Aggregation-Partial: true를 반환합니다.
+ * (인증은 default-filters의 JwtAuthenticationFilter가 먼저 처리하며, 검증된 사용자 헤더를 백엔드로 전달)
+ */
+@Component
+public class OrderDetailAggregationFilter extends AbstractGatewayFilterFactory<Object> {
+
+    public static final String PARTIAL_HEADER = "X-Aggregation-Partial";
+
+    private final OrderDetailAggregator orderDetailAggregator;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final ObjectMapper objectMapper;
+
+    public OrderDetailAggregationFilter(OrderDetailAggregator orderDetailAggregator,
+                                        ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                        ObjectMapper objectMapper) {
+        this.orderDetailAggregator = orderDetailAggregator;
+        this.headersFilters = headersFilters;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            Map<String, String> variables = ServerWebExchangeUtils.getUriTemplateVariables(exchange);
+            String orderId = variables.get("orderId");
+            if (orderId == null) {
+                return chain.filter(exchange);
+            }
+
+            HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange);
+            headers.remove(HttpHeaders.HOST);
+            headers.remove(HttpHeaders.ACCEPT_ENCODING);
+
+            return orderDetailAggregator.aggregate(orderId, headers)
+                    .flatMap(result -> writeResponse(exchange, result));
+        };
+    }
+
+    private Mono<Void> writeResponse(ServerWebExchange exchange, AggregationResult result) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(result.body());
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(result.status());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (result.partial()) {
+            response.getHeaders().set(PARTIAL_HEADER, "true");
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
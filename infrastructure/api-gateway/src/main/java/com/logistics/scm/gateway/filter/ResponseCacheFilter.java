@@ -0,0 +1,287 @@
+package com.logistics.scm.gateway.filter;
+
+import com.logistics.scm.gateway.cache.CachedResponse;
+import com.logistics.scm.gateway.cache.GatewayResponseCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GET 응답 캐시 필터
+ * 
+ * 반복 조회가 많은 상품/재고 GET 응답을 Gateway에서 캐시하여 백엔드 호출을 흡수합니다.
+ * 
+ * <pre>
+ * filters:
+ *   - name: ResponseCacheFilter
+ *     args:
+ *       ttl: 5s
+ *       paths:                  # Gateway 요청 경로 기준 (StripPrefix 이전), 생략 시 라우트의 모든 GET
+ *         - /inventory-service/api/v1/products/**
+ * </pre>
+ * 
+ * - 키: 라우트 ID + 경로 + 쿼리 (인증은 JwtAuthenticationFilter가 캐시 조회보다 먼저 수행)
+ * - 대상: 상태 200, Cache-Control no-store/private 및 Set-Cookie가 없는 응답
+ * - ETag/If-None-Match: 캐시 적중 또는 새로 받은 응답이 클라이언트 ETag와 같으면 304 (본문 생략)
+ * - Single-flight: 같은 키의 동시 미스는 한 요청만 백엔드로 보내고 나머지는 그 응답을 공유
+ *   (leader 실패/캐시 불가 응답이면 follower는 각자 백엔드 호출)
+ * - 응답 헤더 X-Cache: HIT | MISS
+ * 
+ * 본문 수집은 max-entry-size로 제한: Content-Length가 상한을 넘으면 캐시하지 않고,
+ * 길이를 모르는(chunked) 응답은 그대로 전달하면서 상한 이내일 때만 복사본을 캐시합니다.
+ * 
+ * 응답 본문을 가로채야 하므로 NettyWriteResponseFilter보다 앞 순서로 동작합니다.
+ * (라우트의 다른 필터보다 먼저 실행되므로, 캐시 적중 시 Rate Limit/Circuit Breaker를 거치지 않음)
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheFilter.class);
+    private static final String CACHE_HEADER = "X-Cache";
+    private static final Duration FOLLOWER_TIMEOUT = Duration.ofSeconds(5);
+
+    private final GatewayResponseCache responseCache;
+
+    public ResponseCacheFilter(GatewayResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Duration ttl = config.getTtl();
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            patterns.add(PathPatternParser.defaultInstance.parse(path));
+        }
+
+        GatewayFilter filter = (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !matches(patterns, request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(exchange);
+            String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached, ifNoneMatch, "HIT");
+            }
+
+            Sinks.One<CachedResponse> leader = Sinks.one();
+            Sinks.One<CachedResponse> inFlight = responseCache.joinInFlight(key, leader);
+            if (inFlight != null) {
+                return inFlight.asMono()
+                        .timeout(FOLLOWER_TIMEOUT)
+                        .flatMap(shared -> writeCached(exchange, shared, ifNoneMatch, "HIT"))
+                        .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                        .onErrorResume(error -> chain.filter(exchange));
+            }
+
+            CachingResponse caching = new CachingResponse(exchange.getResponse(), key, ttl, ifNoneMatch, leader);
+            return chain.filter(exchange.mutate().response(caching).build())
+                    .doFinally(signal -> {
+                        responseCache.completeInFlight(key, leader);
+                        leader.tryEmitEmpty();
+                    });
+        };
+
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cacheKey(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unknown";
+        String query = exchange.getRequest().getURI().getRawQuery();
+        String path = exchange.getRequest().getURI().getRawPath();
+        return query != null ? routeId + ":" + path + "?" + query : routeId + ":" + path;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached,
+                                   String ifNoneMatch, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_HEADER, cacheStatus);
+
+        if (cached.matches(ifNoneMatch)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * 백엔드 응답 본문을 모아 캐시에 저장하고 follower에게 전달하는 응답 데코레이터
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Duration ttl;
+        private final String ifNoneMatch;
+        private final Sinks.One<CachedResponse> leader;
+
+        CachingResponse(ServerHttpResponse delegate, String key, Duration ttl,
+                        String ifNoneMatch, Sinks.One<CachedResponse> leader) {
+            super(delegate);
+            this.key = key;
+            this.ttl = ttl;
+            this.ifNoneMatch = ifNoneMatch;
+            this.leader = leader;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                leader.tryEmitEmpty();
+                return super.writeWith(body);
+            }
+
+            // Content-Length 없는 응답(chunked)은 모아 두지 않고 그대로 흘려보내며 상한 이내일 때만 복사본 캐시
+            if (getHeaders().getContentLength() < 0) {
+                return writeStreaming(body);
+            }
+
+            // Content-Length가 상한 이내인 응답만 여기로 오며, 선언과 다르게 길어져도 상한까지만 모음
+            return DataBufferUtils.join(body, responseCache.maxEntrySize())
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        CachedResponse cached = cache(bytes);
+
+                        getHeaders().setETag(cached.etag());
+                        getHeaders().set(CACHE_HEADER, "MISS");
+                        if (cached.matches(ifNoneMatch)) {
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            return setComplete();
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        /**
+         * 본문 길이를 모르는 응답: 클라이언트로 바로 전달하면서 max-entry-size까지만 복사
+         * 상한을 넘으면 복사를 중단하고 캐시하지 않음 (헤더가 먼저 나가므로 ETag/304 처리는 생략)
+         */
+        private Mono<Void> writeStreaming(Publisher<? extends DataBuffer> body) {
+            int maxEntrySize = responseCache.maxEntrySize();
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            AtomicBoolean overflow = new AtomicBoolean();
+            getHeaders().set(CACHE_HEADER, "MISS");
+
+            Flux<DataBuffer> teed = Flux.from(body)
+                    .map(buffer -> (DataBuffer) buffer)
+                    .doOnNext(buffer -> {
+                        if (overflow.get()) {
+                            return;
+                        }
+                        int size = buffer.readableByteCount();
+                        if (copy.size() + size > maxEntrySize) {
+                            overflow.set(true);
+                            copy.reset();
+                            leader.tryEmitEmpty();
+                            return;
+                        }
+                        byte[] bytes = new byte[size];
+                        int readPosition = buffer.readPosition();
+                        buffer.read(bytes);
+                        buffer.readPosition(readPosition);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow.get()) {
+                            cache(copy.toByteArray());
+                        }
+                    });
+            return super.writeWith(teed);
+        }
+
+        private CachedResponse cache(byte[] bytes) {
+            CachedResponse cached = CachedResponse.of(getHeaders().getContentType(), bytes, ttl);
+            responseCache.put(key, cached);
+            leader.tryEmitValue(cached);
+            log.debug("Response cached - key: {}, size: {}", key, bytes.length);
+            return cached;
+        }
+
+        private boolean isCacheable() {
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()) {
+                return false;
+            }
+            HttpHeaders headers = getHeaders();
+            // 압축된 본문은 Accept-Encoding별로 달라지므로 캐시하지 않음 (압축은 Gateway 서버 단에서 수행)
+            if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > responseCache.maxEntrySize()) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            return cacheControl == null
+                    || !(cacheControl.contains(CacheControl.noStore().getHeaderValue())
+                    || cacheControl.contains("private"));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(10);
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -0,0 +1,149 @@
+package com.logistics.scm.gateway.filter;
+
+import com.logistics.scm.gateway.ratelimit.RateLimitDecision;
+import com.logistics.scm.gateway.ratelimit.RateLimitPolicy;
+import com.logistics.scm.gateway.ratelimit.TokenBucketRateLimiter;
+import com.logistics.scm.gateway.security.JwtClaims;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토큰 버킷 Rate Limit 필터
+ * 
+ * 라우트별로 application.yml에서 정책을 지정합니다.
+ * 
+ * <pre>
+ * filters:
+ *   - name: TokenBucketRateLimitFilter
+ *     args:
+ *       replenishRate: 50     # 초당 보충 토큰 수
+ *       burstCapacity: 100    # 순간 허용량
+ *       prefetch: 5           # 인스턴스 로컬 선할당 토큰 수
+ *       keyType: USER         # USER | ROLE | ROUTE
+ * </pre>
+ * 
+ * 버킷 키: {routeId}:{keyType}:{사용자명|역할}
+ * - 사용자/역할은 JwtAuthenticationFilter가 검증한 클레임에서 추출
+ * - 인증 제외 경로 등 클레임이 없으면 클라이언트 IP 사용
+ * 
+ * 한도 초과 시 429 Too Many Requests, 응답 헤더 X-RateLimit-Remaining에 남은 토큰 추정치를 내려줍니다.
+ */
+@Component
+public class TokenBucketRateLimitFilter extends AbstractGatewayFilterFactory<TokenBucketRateLimitFilter.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimitFilter.class);
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"error\": \"Too many requests\", \"status\": 429}".getBytes(StandardCharsets.UTF_8);
+
+    private final TokenBucketRateLimiter tokenBucketRateLimiter;
+
+    public TokenBucketRateLimitFilter(TokenBucketRateLimiter tokenBucketRateLimiter) {
+        super(Config.class);
+        this.tokenBucketRateLimiter = tokenBucketRateLimiter;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        RateLimitPolicy policy = new RateLimitPolicy(
+                config.getReplenishRate(), config.getBurstCapacity(), config.getPrefetch());
+
+        return (exchange, chain) -> {
+            String bucketKey = resolveBucketKey(exchange, config.getKeyType());
+
+            return tokenBucketRateLimiter.tryAcquire(bucketKey, policy)
+                    .flatMap(decision -> {
+                        ServerHttpResponse response = exchange.getResponse();
+                        if (decision.remaining() >= 0) {
+                            response.getHeaders().set(REMAINING_HEADER, Long.toString(decision.remaining()));
+                        }
+                        if (!decision.allowed()) {
+                            log.warn("Rate limit exceeded - key: {}", bucketKey);
+                            return onTooManyRequests(exchange);
+                        }
+                        return chain.filter(exchange);
+                    });
+        };
+    }
+
+    private String resolveBucketKey(ServerWebExchange exchange, KeyType keyType) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unknown";
+        if (keyType == KeyType.ROUTE) {
+            return routeId + ":" + keyType;
+        }
+
+        JwtClaims claims = exchange.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTR);
+        String subject;
+        if (claims == null) {
+            subject = clientIp(exchange);
+        } else if (keyType == KeyType.ROLE) {
+            subject = claims.role();
+        } else {
+            subject = claims.username();
+        }
+        return routeId + ":" + keyType + ":" + (subject != null ? subject : "unknown");
+    }
+
+    private String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "anonymous";
+    }
+
+    private Mono<Void> onTooManyRequests(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(TOO_MANY_REQUESTS_BODY)));
+    }
+
+    /**
+     * 버킷 분리 기준
+     */
+    public enum KeyType {
+        /** 사용자별 버킷 */
+        USER,
+        /** 역할별 버킷 (같은 역할 사용자가 공유) */
+        ROLE,
+        /** 라우트 전체 공유 버킷 */
+        ROUTE
+    }
+
+    /**
+     * 라우트 args는 바인딩 시 Bean Validation으로 검증되어, 0 이하 값은 라우트 로딩 단계에서 거부됨
+     * (replenishRate 0이면 거절 lease 계산 시 0으로 나누게 됨)
+     */
+    @Getter
+    @Setter
+    @Validated
+    public static class Config {
+        @Positive
+        private int replenishRate = 100;
+        @Positive
+        private int burstCapacity = 200;
+        @Positive
+        private int prefetch = 5;
+        @NotNull
+        private KeyType keyType = KeyType.USER;
+    }
+}
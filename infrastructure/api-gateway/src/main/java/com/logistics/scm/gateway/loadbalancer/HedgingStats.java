@@ -0,0 +1,73 @@
+package com.logistics.scm.gateway.loadbalancer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 Hedging 판단용 지연 통계 및 예산
+ *
+ * - 최근 응답 시간 {@value #WINDOW}건을 링 버퍼에 보관하고, {@value #REFRESH_EVERY}건마다 p95를 다시 계산
+ * - Hedge 요청 수가 전체 요청의 budgetPercent%를 넘지 않도록 제한
+ *   (백엔드 과부하 시 Hedging이 부하를 두 배로 키우는 것 방지, 카운터는 주기적으로 절반 감쇠)
+ */
+public class HedgingStats {
+
+    private static final int WINDOW = 256;
+    private static final int REFRESH_EVERY = 32;
+    private static final long BUDGET_DECAY_EVERY = 1024;
+
+    private final long[] samples = new long[WINDOW];
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final int budgetPercent;
+
+    private volatile long p95Nanos;
+
+    public HedgingStats(int budgetPercent) {
+        this.budgetPercent = budgetPercent;
+    }
+
+    public void recordLatency(long nanos) {
+        long count = sampleCount.getAndIncrement();
+        samples[(int) (count % WINDOW)] = nanos;
+        if ((count + 1) % REFRESH_EVERY == 0) {
+            refreshP95(Math.min(count + 1, WINDOW));
+        }
+    }
+
+    /**
+     * 최근 p95 응답 시간 (표본이 부족하면 0)
+     */
+    public long p95Nanos() {
+        return p95Nanos;
+    }
+
+    public void recordRequest() {
+        if (requests.incrementAndGet() % BUDGET_DECAY_EVERY == 0) {
+            requests.updateAndGet(value -> value / 2);
+            hedges.updateAndGet(value -> value / 2);
+        }
+    }
+
+    /**
+     * 예산 안에서 Hedge 요청 1건 허용 여부
+     */
+    public boolean tryAcquireHedge() {
+        long allowed = requests.get() * budgetPercent / 100;
+        long current;
+        do {
+            current = hedges.get();
+            if (current >= Math.max(1, allowed)) {
+                return false;
+            }
+        } while (!hedges.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void refreshP95(long size) {
+        long[] copy = Arrays.copyOf(samples, (int) size);
+        Arrays.sort(copy);
+        p95Nanos = copy[(int) Math.min(size - 1, (long) Math.ceil(size * 0.95) - 1)];
+    }
+}
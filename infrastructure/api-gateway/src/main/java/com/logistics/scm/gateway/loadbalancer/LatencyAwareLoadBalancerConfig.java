@@ -0,0 +1,37 @@
+package com.logistics.scm.gateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 서비스별 LoadBalancer 자식 컨텍스트 설정 (Peak-EWMA)
+ *
+ * {@code @LoadBalancerClients(defaultConfiguration = ...)}로만 등록하며,
+ * 컴포넌트 스캔 대상이 되지 않도록 {@code @Configuration}을 붙이지 않습니다.
+ */
+public class LatencyAwareLoadBalancerConfig {
+
+    /**
+     * 반환 타입을 구현 클래스로 선언해야 LoadBalancerLifecycle로도 조회됩니다.
+     */
+    @Bean
+    public PeakEwmaLoadBalancer peakEwmaLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            @Value("${gateway.load-balancer.decay-time:10s}") Duration decayTime,
+            @Value("${gateway.load-balancer.failure-penalty:1s}") Duration failurePenalty,
+            @Value("${spring.cloud.gateway.httpclient.response-timeout:30s}") Duration responseTimeout) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId,
+                decayTime.toNanos(),
+                failurePenalty.toNanos(),
+                responseTimeout.toNanos());
+    }
+}
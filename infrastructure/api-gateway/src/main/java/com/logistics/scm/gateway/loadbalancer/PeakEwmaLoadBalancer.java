@@ -0,0 +1,173 @@
+package com.logistics.scm.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기반 로드 밸런서 (Peak-EWMA + Power of Two Choices)
+ *
+ * 인스턴스 두 개를 무작위로 고른 뒤 비용이 낮은 쪽을 선택합니다.
+ * - 비용 = 응답 시간 Peak-EWMA × (처리 중 요청 수 + 1)
+ * - Peak-EWMA: 느린 응답은 즉시 반영(peak), 빠른 응답은 decay-time에 걸쳐 서서히 반영
+ * - 요청이 없는 동안 EWMA는 0으로 감쇠하여, GC 등으로 느렸던 인스턴스도 회복 후 다시 트래픽을 받음
+ * - 실패 응답은 failure-penalty 이상의 지연으로 집계
+ *
+ * 지연/처리 중 요청 수는 {@link LoadBalancerLifecycle} 콜백으로 수집합니다.
+ * (Gateway 라우팅의 ReactiveLoadBalancerClientFilter와 @LoadBalanced WebClient 모두 호출)
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final long staleNanos;
+    private final ConcurrentMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                String serviceId, long decayNanos, long failurePenaltyNanos, long staleNanos) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.decayNanos = decayNanos;
+        this.failurePenaltyNanos = failurePenaltyNanos;
+        this.staleNanos = staleNanos;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        int size = instances.size();
+        if (size == 0) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (size == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        long now = System.nanoTime();
+        return new DefaultResponse(statsOf(a).cost(now) <= statsOf(b).cost(now) ? a : b);
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        // 인스턴스 선택 전 단계 - 집계 없음
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        long now = System.nanoTime();
+        request.getContext().setRequestStartTime(now);
+        statsOf(lbResponse.getServer()).start(now);
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long startTime = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        long rtt = startTime > 0 ? now - startTime : 0L;
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            rtt = Math.max(rtt, failurePenaltyNanos);
+        }
+        statsOf(lbResponse.getServer()).complete(rtt, now);
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        String key = instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+        return stats.computeIfAbsent(key, k -> new InstanceStats());
+    }
+
+    /**
+     * 인스턴스별 지연 통계
+     */
+    private final class InstanceStats {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private double ewmaNanos;
+        private long lastObservedAt = System.nanoTime();
+        private volatile long lastActivityAt = System.nanoTime();
+
+        void start(long now) {
+            outstanding.incrementAndGet();
+            lastActivityAt = now;
+        }
+
+        synchronized void complete(long rttNanos, long now) {
+            outstanding.updateAndGet(count -> Math.max(0, count - 1));
+            lastActivityAt = now;
+            if (rttNanos > ewmaNanos) {
+                ewmaNanos = rttNanos;
+            } else {
+                double weight = Math.exp(-(now - lastObservedAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+            }
+            lastObservedAt = now;
+        }
+
+        synchronized double cost(long now) {
+            // 취소 등으로 완료 콜백이 누락된 요청이 처리 중 수에 남지 않도록, 오래 활동이 없으면 초기화
+            int pending = outstanding.get();
+            if (pending > 0 && now - lastActivityAt > staleNanos) {
+                outstanding.set(0);
+                pending = 0;
+            }
+            double decayed = ewmaNanos * Math.exp(-(now - lastObservedAt) / decayNanos);
+            return decayed * (pending + 1);
+        }
+    }
+}
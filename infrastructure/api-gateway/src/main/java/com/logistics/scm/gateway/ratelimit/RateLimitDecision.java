@@ -0,0 +1,25 @@
+package com.logistics.scm.gateway.ratelimit;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed   요청 허용 여부
+ * @param remaining 남은 토큰 수 추정치 (로컬 선할당분 + 마지막 조회 시 Redis 잔량, 알 수 없으면 -1)
+ */
+public record RateLimitDecision(boolean allowed, long remaining) {
+
+    public static RateLimitDecision allowed(long remaining) {
+        return new RateLimitDecision(true, remaining);
+    }
+
+    public static RateLimitDecision denied() {
+        return new RateLimitDecision(false, 0L);
+    }
+
+    /**
+     * Redis 장애 시 통과 (블랙리스트 조회와 동일한 fail-open 정책)
+     */
+    public static RateLimitDecision failOpen() {
+        return new RateLimitDecision(true, -1L);
+    }
+}
@@ -0,0 +1,18 @@
+package com.logistics.scm.gateway.ratelimit;
+
+/**
+ * 버킷 정책
+ *
+ * @param replenishRate 초당 보충 토큰 수
+ * @param burstCapacity 버킷 최대 토큰 수 (순간 허용량)
+ * @param prefetch      Redis 한 번 조회 시 로컬로 가져오는 토큰 수
+ */
+public record RateLimitPolicy(int replenishRate, int burstCapacity, int prefetch) {
+
+    public RateLimitPolicy {
+        if (replenishRate <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException("replenishRate and burstCapacity must be positive");
+        }
+        prefetch = Math.max(1, Math.min(prefetch, burstCapacity));
+    }
+}
@@ -0,0 +1,142 @@
+package com.logistics.scm.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 기반 분산 토큰 버킷 Rate Limiter
+ *
+ * 버킷 상태는 Redis Lua 스크립트(scripts/token_bucket.lua)로 원자적으로 갱신하고,
+ * Gateway 인스턴스는 한 번에 prefetch개의 토큰을 선할당(lease)받아 로컬에서 소진합니다.
+ *
+ * - 로컬 lease에 토큰이 남아 있으면 Redis 조회 없이 허용
+ * - 소진되면 Redis에서 다시 prefetch개를 요청 (부족하면 남은 만큼만 지급)
+ * - 한 개도 받지 못하면 다음 토큰 보충 시점까지 로컬에서 바로 거절 (거절 요청의 Redis 부하 차단)
+ * - lease는 lease-duration 후 만료되어, 쓰지 않은 토큰이 늦게 몰려 쓰이는 것을 방지
+ *
+ * 정확도: 인스턴스 N개일 때 초과 허용량은 최대 N * prefetch (lease 기간 내)
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final RedisScript<List<Long>> tokenBucketScript;
+    private final long leaseNanos;
+    private final Cache<String, Lease> leases;
+
+    public TokenBucketRateLimiter(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                                  @Qualifier("tokenBucketScript") RedisScript<List<Long>> tokenBucketScript,
+                                  @Value("${gateway.rate-limit.lease-duration:PT1S}") Duration leaseDuration,
+                                  @Value("${gateway.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.tokenBucketScript = tokenBucketScript;
+        this.leaseNanos = leaseDuration.toNanos();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterWrite(leaseNanos, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * 버킷에서 토큰 1개 획득 시도
+     *
+     * @param bucketKey 버킷 식별자 (route + 사용자/역할)
+     * @param policy    버킷 정책
+     * @return 판정 결과
+     */
+    public Mono<RateLimitDecision> tryAcquire(String bucketKey, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        Lease lease = leases.getIfPresent(bucketKey);
+        if (lease != null && !lease.isExpired(now)) {
+            long left = lease.take();
+            if (left >= 0) {
+                return Mono.just(RateLimitDecision.allowed(left + lease.remoteRemaining));
+            }
+            if (lease.denied) {
+                return Mono.just(RateLimitDecision.denied());
+            }
+        }
+
+        return reactiveRedisTemplate.execute(tokenBucketScript,
+                        List.of(KEY_PREFIX + bucketKey),
+                        List.of(Integer.toString(policy.replenishRate()),
+                                Integer.toString(policy.burstCapacity()),
+                                Integer.toString(policy.prefetch())))
+                .next()
+                .map(result -> applyGrant(bucketKey, policy, result.get(0), result.get(1), now))
+                .doOnError(error -> log.error("Redis error while acquiring rate limit token - key: {}", bucketKey, error))
+                .onErrorReturn(RateLimitDecision.failOpen());
+    }
+
+    private RateLimitDecision applyGrant(String bucketKey, RateLimitPolicy policy,
+                                         long granted, long remoteRemaining, long now) {
+        if (granted <= 0) {
+            // 다음 토큰이 보충될 때까지 (lease 기간 이내) 로컬에서 거절
+            long refillNanos = TimeUnit.SECONDS.toNanos(1) / policy.replenishRate();
+            leases.put(bucketKey, Lease.denied(now + Math.min(refillNanos, leaseNanos)));
+            return RateLimitDecision.denied();
+        }
+        // 1개는 현재 요청에 사용, 나머지는 로컬 lease로 보관
+        if (granted > 1) {
+            leases.put(bucketKey, new Lease(granted - 1, remoteRemaining, now + leaseNanos, false));
+        } else {
+            leases.invalidate(bucketKey);
+        }
+        return RateLimitDecision.allowed(granted - 1 + remoteRemaining);
+    }
+
+    /**
+     * 인스턴스 로컬 선할당 토큰
+     */
+    private static final class Lease {
+
+        private final AtomicLong tokens;
+        private final long remoteRemaining;
+        private final long expiresAtNanos;
+        private final boolean denied;
+
+        private Lease(long tokens, long remoteRemaining, long expiresAtNanos, boolean denied) {
+            this.tokens = new AtomicLong(tokens);
+            this.remoteRemaining = remoteRemaining;
+            this.expiresAtNanos = expiresAtNanos;
+            this.denied = denied;
+        }
+
+        static Lease denied(long expiresAtNanos) {
+            return new Lease(0L, 0L, expiresAtNanos, true);
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        /**
+         * 토큰 1개 소진 - 성공 시 남은 수, 부족하면 -1
+         */
+        long take() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return -1L;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return current - 1;
+        }
+    }
+}
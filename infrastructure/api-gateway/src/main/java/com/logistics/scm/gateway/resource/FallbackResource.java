@@ -0,0 +1,56 @@
+package com.logistics.scm.gateway.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit Breaker Fallback 응답
+ * 
+ * CircuitBreaker 필터의 fallbackUri(forward:/fallback/{routeId})로 전달되어,
+ * 백엔드 장애/지연 시 연결을 붙잡지 않고 즉시 응답합니다.
+ * 
+ * - 응답 제한 시간 초과: 504 Gateway Timeout
+ * - Circuit OPEN 또는 연결 실패: 503 Service Unavailable
+ */
+@RestController
+@RequestMapping("/fallback")
+public class FallbackResource {
+
+    private static final Logger log = LoggerFactory.getLogger(FallbackResource.class);
+
+    @RequestMapping("/{routeId}")
+    public Mono<ResponseEntity<Map<String, Object>>> fallback(@PathVariable String routeId,
+                                                              ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        HttpStatus status = cause instanceof TimeoutException
+                ? HttpStatus.GATEWAY_TIMEOUT
+                : HttpStatus.SERVICE_UNAVAILABLE;
+
+        log.warn("Fallback response - route: {}, status: {}, cause: {}",
+                routeId, status.value(), cause != null ? cause.toString() : "unknown");
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", status == HttpStatus.GATEWAY_TIMEOUT
+                ? "Service response timed out"
+                : "Service temporarily unavailable");
+        body.put("status", status.value());
+        body.put("route", routeId);
+
+        return Mono.just(ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+    }
+}
@@ -0,0 +1,65 @@
+package com.logistics.scm.gateway.security;
+
+import com.logistics.scm.gateway.config.AuthProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JWT 인증 제외 경로 매처
+ * 
+ * gateway.auth.excluded-paths를 시작 시 한 번 컴파일합니다.
+ * - 와일드카드 없는 경로: HashSet 정확 일치 (O(1))
+ * - 패턴 경로: PathPattern (구체적인 패턴부터 검사)
+ * 
+ * 요청마다 String.contains를 연쇄 호출하던 방식 대신,
+ * 이미 파싱된 요청 경로(PathContainer)로 정확 일치 조회 1회 + 패턴 매칭만 수행합니다.
+ */
+@Slf4j
+@Component
+public class ExcludedPathMatcher {
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final PathPattern[] patterns;
+
+    public ExcludedPathMatcher(AuthProperties authProperties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        List<PathPattern> compiled = new ArrayList<>();
+        for (String path : authProperties.getExcludedPaths()) {
+            PathPattern pattern = parser.parse(path);
+            if (pattern.hasPatternSyntax()) {
+                compiled.add(pattern);
+            } else {
+                exactPaths.add(pattern.getPatternString());
+            }
+        }
+        compiled.sort(PathPattern.SPECIFICITY_COMPARATOR);
+        this.patterns = compiled.toArray(new PathPattern[0]);
+
+        log.info("JWT excluded paths compiled - exact: {}, patterns: {}", exactPaths.size(), patterns.length);
+    }
+
+    /**
+     * 인증 제외 경로 여부
+     * 
+     * @param path 요청 경로 (ServerHttpRequest.getPath().pathWithinApplication())
+     */
+    public boolean matches(PathContainer path) {
+        if (exactPaths.contains(path.value())) {
+            return true;
+        }
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.logistics.scm.gateway.security;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 JWT에서 Gateway가 사용하는 값만 추려 둔 불변 객체
+ *
+ * 서명 검증은 {@link JwtTokenProvider#parseClaims(String)}에서 한 번만 수행하고,
+ * 필터는 이 객체에서 사용자명/역할/만료 시각을 바로 꺼내 씁니다.
+ *
+ * @param username     사용자명 (JWT subject)
+ * @param role         사용자 역할 (role 클레임)
+ * @param expiration   만료 시각
+ * @param revocationId 블랙리스트 식별자 (jti, jti 없는 구 토큰은 토큰 SHA-256 hex)
+ */
+public record JwtClaims(String username, String role, Instant expiration, String revocationId) {
+
+    /**
+     * 기준 시각에 만료되었는지 확인
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+}
@@ -9,12 +9,20 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 검증 및 파싱 유틸리티
  * 
  * Common Service에서 발급한 JWT 토큰을 검증합니다.
  * 
+ * - JwtParser는 불변/스레드 안전하므로 생성 시 한 번만 만들어 재사용
+ * - {@link #parseClaims(String)} 한 번으로 서명 검증과 클레임 추출을 함께 처리
+ *   (validateToken → getUsername → getRole 순으로 세 번 파싱하던 방식 대체)
+ * - 블랙리스트 식별자(revocationId)는 jti, jti가 없는 구 토큰은 토큰 SHA-256 hex
+ *   (Common Service TokenBlacklistService와 동일한 규칙)
+ * 
  * @author c.h.jo
  * @since 2026-01-28
  */
@@ -23,7 +31,7 @@ public class JwtTokenProvider {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     /**
      * JWT Secret Key는 환경 변수 또는 application.yml에서 주입받습니다.
@@ -31,22 +39,27 @@ public class JwtTokenProvider {
      * 주의: Common Service와 동일한 Secret Key를 사용해야 합니다!
      */
     public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     /**
-     * JWT 토큰의 유효성을 검증합니다.
+     * JWT 토큰을 한 번 파싱하여 서명/만료를 검증하고 클레임을 반환합니다.
      * 
      * @param token JWT 토큰
-     * @return 유효하면 true, 그렇지 않으면 false
+     * @return 유효하면 검증된 클레임, 그렇지 않으면 empty
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return Optional.of(new JwtClaims(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration != null ? expiration.toInstant() : null,
+                    claims.getId() != null ? claims.getId() : TokenHashes.sha256(token)));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -56,54 +69,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
-    }
-
-    /**
-     * JWT 토큰에서 사용자명(username)을 추출합니다.
-     * 
-     * @param token JWT 토큰
-     * @return 사용자명
-     */
-    public String getUsername(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
-    }
-
-    /**
-     * JWT 토큰에서 역할(role)을 추출합니다.
-     * 
-     * @param token JWT 토큰
-     * @return 사용자 역할
-     */
-    public String getRole(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.get("role", String.class);
-    }
-
-    /**
-     * JWT 토큰의 만료 시간을 추출합니다.
-     * 
-     * @param token JWT 토큰
-     * @return 만료 시간
-     */
-    public java.util.Date getExpiration(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getExpiration();
+        return Optional.empty();
     }
 }
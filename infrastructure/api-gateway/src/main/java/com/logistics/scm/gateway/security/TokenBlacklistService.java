@@ -1,13 +1,15 @@
 package com.logistics.scm.gateway.security;
 
-import lombok.RequiredArgsConstructor;
+import com.logistics.scm.gateway.security.revocation.LocalRevocationSet;
+import com.logistics.scm.gateway.security.revocation.RevocationSyncService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.Date;
+import java.util.Optional;
 
 /**
  * Token Blacklist Service
@@ -20,22 +22,43 @@ import java.util.Date;
  * - TTL을 통해 만료된 토큰은 자동으로 삭제
  * 
  * Redis Key 형식:
- * - Key: "blacklist:{token}"
+ * - Key: "revoked:{revocationId}" (revocationId = jti, jti 없는 구 토큰은 토큰 SHA-256 hex)
  * - Value: "revoked"
  * - TTL: 토큰의 남은 유효 시간
  * 
+ * 구 형식 키 호환 (gateway.revocation.legacy-key-enabled):
+ * - 전환 기간에는 "blacklist:{token}" 키도 함께 조회
+ * - 전환 전 발급 토큰이 모두 만료되면 비활성화
+ * 
+ * 로컬 판정:
+ * - 폐기 목록을 LocalRevocationSet(Bloom Filter + 정확 집합)으로 복제하여
+ *   폐기되지 않은 토큰은 Redis 조회 없이 통과
+ * - Bloom 오탐이거나 동기화 전/구독 끊김 상태일 때만 Redis hasKey 조회
+ * 
  * @author c.h.jo
  * @since 2026-02-05
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
 
     private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LocalRevocationSet localRevocationSet;
+    private final boolean legacyKeyEnabled;
     
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    public static final String REVOKED_PREFIX = "revoked:";
+    public static final String BLACKLIST_PREFIX = "blacklist:";
+
+    public TokenBlacklistService(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                                 JwtTokenProvider jwtTokenProvider,
+                                 LocalRevocationSet localRevocationSet,
+                                 @Value("${gateway.revocation.legacy-key-enabled:true}") boolean legacyKeyEnabled) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.localRevocationSet = localRevocationSet;
+        this.legacyKeyEnabled = legacyKeyEnabled;
+    }
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -45,10 +68,15 @@ public class TokenBlacklistService {
      */
     public Mono<Boolean> addToBlacklist(String token) {
         try {
+            Optional<JwtClaims> parsed = jwtTokenProvider.parseClaims(token);
+            if (parsed.isEmpty()) {
+                log.warn("Invalid or expired token, not adding to blacklist");
+                return Mono.just(false);
+            }
+            JwtClaims claims = parsed.get();
+
             // 토큰 만료 시간 확인
-            Date expiration = jwtTokenProvider.getExpiration(token);
-            long now = System.currentTimeMillis();
-            long ttl = expiration.getTime() - now;
+            long ttl = claims.expiration().toEpochMilli() - System.currentTimeMillis();
             
             if (ttl <= 0) {
                 log.warn("Token already expired, not adding to blacklist");
@@ -56,17 +84,23 @@ public class TokenBlacklistService {
             }
             
             // Redis에 저장 (만료 시간까지만)
-            String key = BLACKLIST_PREFIX + token;
+            String revocationId = claims.revocationId();
             Duration duration = Duration.ofMillis(ttl);
             
             return reactiveRedisTemplate.opsForValue()
-                    .set(key, "revoked", duration)
-                    .doOnSuccess(success -> {
-                        if (Boolean.TRUE.equals(success)) {
-                            log.info("Token added to blacklist, TTL: {} seconds", ttl / 1000);
-                        } else {
+                    .set(REVOKED_PREFIX + revocationId, "revoked", duration)
+                    .flatMap(success -> {
+                        if (!Boolean.TRUE.equals(success)) {
                             log.error("Failed to add token to blacklist");
+                            return Mono.just(false);
                         }
+                        log.info("Token added to blacklist - revocationId: {}, TTL: {} seconds",
+                                revocationId, ttl / 1000);
+                        // 다른 Gateway 인스턴스의 로컬 폐기 집합에 전파
+                        localRevocationSet.add(revocationId);
+                        return reactiveRedisTemplate
+                                .convertAndSend(RevocationSyncService.REVOCATION_CHANNEL, revocationId)
+                                .thenReturn(true);
                     })
                     .doOnError(error -> 
                         log.error("Redis error while adding token to blacklist", error)
@@ -82,17 +116,34 @@ public class TokenBlacklistService {
     /**
      * 토큰이 블랙리스트에 있는지 확인
      * 
-     * @param token JWT 토큰
+     * @param token  JWT 토큰
+     * @param claims 검증된 토큰 클레임
      * @return 블랙리스트에 있으면 true
      */
-    public Mono<Boolean> isBlacklisted(String token) {
+    public Mono<Boolean> isBlacklisted(String token, JwtClaims claims) {
         try {
-            String key = BLACKLIST_PREFIX + token;
+            String revocationId = claims.revocationId();
+            switch (localRevocationSet.check(revocationId)) {
+                case NOT_REVOKED:
+                    return Mono.just(false);
+                case REVOKED:
+                    log.debug("Token found in local revocation set - revocationId: {}", revocationId);
+                    return Mono.just(true);
+                default:
+                    break;
+            }
+            
+            Mono<Boolean> revoked = reactiveRedisTemplate.hasKey(REVOKED_PREFIX + revocationId);
+            if (legacyKeyEnabled) {
+                revoked = revoked.flatMap(exists -> Boolean.TRUE.equals(exists)
+                        ? Mono.just(true)
+                        : reactiveRedisTemplate.hasKey(BLACKLIST_PREFIX + token));
+            }
             
-            return reactiveRedisTemplate.hasKey(key)
+            return revoked
                     .doOnNext(exists -> {
                         if (Boolean.TRUE.equals(exists)) {
-                            log.debug("Token found in blacklist");
+                            log.debug("Token found in blacklist - revocationId: {}", revocationId);
                         }
                     })
                     .doOnError(error -> 
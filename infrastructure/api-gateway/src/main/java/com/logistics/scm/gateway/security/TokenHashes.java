@@ -0,0 +1,32 @@
+package com.logistics.scm.gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 유틸리티
+ *
+ * 토큰 원문 대신 SHA-256 hex 다이제스트를 캐시/저장소 키로 사용합니다.
+ * (키 길이 고정 64자, 토큰 원문이 메모리·로그에 남지 않음)
+ */
+public final class TokenHashes {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenHashes() {
+    }
+
+    /**
+     * 토큰의 SHA-256 hex 다이제스트
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.logistics.scm.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 검증 완료 JWT 클레임 캐시
+ *
+ * 같은 토큰으로 반복되는 요청에서 HMAC 서명 검증과 JSON 파싱을 생략합니다.
+ *
+ * - Key: 토큰 SHA-256 hex (토큰 원문은 보관하지 않음)
+ * - Value: 검증된 {@link JwtClaims}
+ * - 만료: 엔트리마다 토큰의 exp 시각까지 (Caffeine Expiry), exp 없는 토큰은 max-ttl
+ * - 크기: maximum-size 초과 시 W-TinyLFU로 제거
+ * - 검증 실패 결과는 캐시하지 않음 (임의 토큰으로 캐시를 채우는 것 방지)
+ * - 폐기 여부는 캐시 적중과 무관하게 매 요청 TokenBlacklistService에서 확인하므로 폐기 시 엔트리를 제거하지 않음
+ */
+@Slf4j
+@Component
+public class VerifiedClaimsCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtClaims> cache;
+    private final Clock clock = Clock.systemUTC();
+
+    public VerifiedClaimsCache(JwtTokenProvider jwtTokenProvider,
+                               @Value("${gateway.jwt.claims-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${gateway.jwt.claims-cache.max-ttl:PT1H}") Duration maxTtl) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(clock, maxTtl))
+                .build();
+    }
+
+    /**
+     * 토큰을 검증하고 클레임을 반환 (캐시 적중 시 재검증 생략)
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 검증된 클레임, 그렇지 않으면 empty
+     */
+    public Optional<JwtClaims> verify(String token) {
+        String key = TokenHashes.sha256(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(clock.instant())) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(key);
+        }
+
+        Optional<JwtClaims> claims = jwtTokenProvider.parseClaims(token);
+        claims.ifPresent(verified -> cache.put(key, verified));
+        return claims;
+    }
+
+    /**
+     * 엔트리 만료 시각 = 토큰 exp (max-ttl 상한)
+     */
+    private record TokenExpiry(Clock clock, Duration maxTtl) implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.expiration() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), claims.expiration());
+            if (remaining.isNegative()) {
+                return 0L;
+            }
+            return Math.min(remaining.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
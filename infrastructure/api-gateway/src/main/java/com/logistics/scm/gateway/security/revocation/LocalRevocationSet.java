@@ -0,0 +1,138 @@
+package com.logistics.scm.gateway.security.revocation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gateway 인스턴스 로컬 폐기 토큰 집합
+ *
+ * Redis 블랙리스트의 revocationId(jti 또는 토큰 SHA-256 hex)를 메모리에 복제하여, 대부분의 요청(폐기되지 않은 토큰)은 네트워크 I/O 없이 판정합니다.
+ *
+ * 판정 규칙 ({@link #check(String)}):
+ * - 동기화 전/구독 끊김 → UNKNOWN (Redis 직접 조회)
+ * - Bloom Filter 미적중 → NOT_REVOKED (Redis 조회 생략)
+ * - Bloom 적중 + 정확 집합 포함 → REVOKED
+ * - Bloom 적중 + 정확 집합 미포함 (오탐) → UNKNOWN (Redis 확인)
+ *
+ * 재구성:
+ * - Bloom Filter는 삭제가 불가하므로 주기적으로 Redis 전체를 다시 읽어 새 스냅샷으로 교체
+ * - 재구성 중 수신한 폐기 이벤트는 현재/신규 스냅샷에 모두 반영
+ */
+@Component
+public class LocalRevocationSet {
+
+    /**
+     * 로컬 판정 결과
+     */
+    public enum Result {
+        NOT_REVOKED,
+        REVOKED,
+        UNKNOWN
+    }
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Snapshot current;
+    private volatile Snapshot pending;
+    private volatile boolean ready;
+
+    public LocalRevocationSet(
+            @Value("${gateway.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${gateway.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newSnapshot(expectedInsertions);
+    }
+
+    /**
+     * 토큰 해시의 폐기 여부를 로컬에서 판정
+     */
+    public Result check(String revocationId) {
+        if (!ready) {
+            return Result.UNKNOWN;
+        }
+        Snapshot snapshot = current;
+        if (!snapshot.bloom().mightContain(revocationId)) {
+            return Result.NOT_REVOKED;
+        }
+        return snapshot.ids().contains(revocationId) ? Result.REVOKED : Result.UNKNOWN;
+    }
+
+    /**
+     * 폐기 이벤트 반영 (재구성 중이면 신규 스냅샷에도 반영)
+     */
+    public void add(String revocationId) {
+        current.add(revocationId);
+        Snapshot rebuilding = pending;
+        if (rebuilding != null) {
+            rebuilding.add(revocationId);
+        }
+    }
+
+    /**
+     * 재구성 시작 - 이후 {@link #addRebuilt(String)}로 Redis 스캔 결과를 채움
+     */
+    public synchronized void beginRebuild() {
+        pending = newSnapshot(Math.max(expectedInsertions, current.ids().size() * 2L));
+    }
+
+    /**
+     * Redis 스캔 결과를 신규 스냅샷에 반영
+     */
+    public void addRebuilt(String revocationId) {
+        Snapshot rebuilding = pending;
+        if (rebuilding != null) {
+            rebuilding.add(revocationId);
+        }
+    }
+
+    /**
+     * 재구성 완료 - 신규 스냅샷으로 교체하고 로컬 판정 활성화
+     */
+    public synchronized void completeRebuild() {
+        if (pending != null) {
+            current = pending;
+            pending = null;
+        }
+        ready = true;
+    }
+
+    /**
+     * 재구성 실패 - 기존 스냅샷 유지
+     */
+    public synchronized void abortRebuild() {
+        pending = null;
+    }
+
+    /**
+     * 구독이 끊겨 이벤트 유실 가능성이 있을 때 로컬 판정 비활성화 (Redis 직접 조회로 전환)
+     */
+    public void markUnready() {
+        ready = false;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return current.ids().size();
+    }
+
+    private Snapshot newSnapshot(long expected) {
+        return new Snapshot(RevocationBloomFilter.create(expected, falsePositiveRate), ConcurrentHashMap.newKeySet());
+    }
+
+    private record Snapshot(RevocationBloomFilter bloom, Set<String> ids) {
+
+        void add(String revocationId) {
+            // 정확 집합을 먼저 채워 Bloom 적중 시 REVOKED 판정이 가능하도록 함
+            ids.add(revocationId);
+            bloom.put(revocationId);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.logistics.scm.gateway.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기 토큰 revocationId용 Bloom Filter
+ *
+ * revocationId(jti UUID 또는 SHA-256 hex)를 64비트 FNV-1a로 해시한 뒤,
+ * 두 번째 해시는 비트 믹싱으로 파생하여 double hashing(h1 + i * h2)으로 k개의 비트 위치를 만듭니다.
+ *
+ * - put은 CAS 기반이라 락 없이 여러 스레드에서 호출 가능
+ * - 삭제를 지원하지 않으므로 만료 항목 정리는 {@link LocalRevocationSet}의 재구성으로 처리
+ */
+final class RevocationBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private RevocationBloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 건수와 허용 오탐률로 비트 수(m)와 해시 개수(k)를 계산해 생성
+     */
+    static RevocationBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = Math.max(64L, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        return new RevocationBloomFilter(m, k);
+    }
+
+    void put(String revocationId) {
+        long h1 = fnv1a(revocationId);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    boolean mightContain(String revocationId) {
+        long h1 = fnv1a(revocationId);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 fmix64 - 두 번째 해시 파생 (홀수로 만들어 모든 비트 위치 순회)
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1L;
+    }
+}
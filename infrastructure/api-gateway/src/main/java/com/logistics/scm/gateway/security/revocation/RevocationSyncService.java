@@ -0,0 +1,153 @@
+package com.logistics.scm.gateway.security.revocation;
+
+import com.logistics.scm.gateway.security.JwtClaims;
+import com.logistics.scm.gateway.security.JwtTokenProvider;
+import com.logistics.scm.gateway.security.TokenBlacklistService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 폐기 토큰 로컬 집합 동기화 서비스
+ *
+ * Redis 블랙리스트를 {@link LocalRevocationSet}에 복제합니다.
+ *
+ * 동기화 방식:
+ * - 실시간: Redis Pub/Sub 채널({@link #REVOCATION_CHANNEL})로 revocationId 수신 (전파 지연 수 ms)
+ * - 초기/재연결: 구독이 성립된 뒤 블랙리스트 키를 SCAN하여 전체 재구성
+ *   (legacy-key-enabled면 구 형식 "blacklist:{token}" 키도 토큰을 검증해 revocationId로 변환)
+ * - 주기: resync-interval마다 재구성하여 만료 항목 정리 및 Bloom Filter 크기 재조정
+ *
+ * 구독이 끊기면 로컬 판정을 비활성화하고(Redis 직접 조회), 백오프로 재구독합니다.
+ */
+@Slf4j
+@Service
+public class RevocationSyncService {
+
+    /**
+     * 폐기 이벤트 채널 (메시지: revocationId) - Common Service와 동일해야 함
+     */
+    public static final String REVOCATION_CHANNEL = "token:revoked";
+
+    private static final long SCAN_COUNT = 1000L;
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final LocalRevocationSet localRevocationSet;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration resyncInterval;
+    private final boolean legacyKeyEnabled;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private Disposable subscription;
+    private Disposable resync;
+
+    public RevocationSyncService(ReactiveRedisMessageListenerContainer listenerContainer,
+                                 ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                                 LocalRevocationSet localRevocationSet,
+                                 JwtTokenProvider jwtTokenProvider,
+                                 @Value("${gateway.revocation.resync-interval:PT5M}") Duration resyncInterval,
+                                 @Value("${gateway.revocation.legacy-key-enabled:true}") boolean legacyKeyEnabled) {
+        this.listenerContainer = listenerContainer;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.localRevocationSet = localRevocationSet;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.resyncInterval = resyncInterval;
+        this.legacyKeyEnabled = legacyKeyEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.defer(this::subscribeAndRebuild)
+                .doOnError(error -> {
+                    localRevocationSet.markUnready();
+                    log.error("Revocation channel subscription failed, falling back to Redis lookups", error);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+
+        resync = Flux.interval(resyncInterval, resyncInterval)
+                .filter(tick -> localRevocationSet.isReady())
+                .concatMap(tick -> rebuild().onErrorResume(error -> Mono.empty()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (resync != null) {
+            resync.dispose();
+        }
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 채널 구독이 성립된 후 전체 재구성 (구독 전 폐기분은 SCAN으로, 이후 폐기분은 이벤트로 반영)
+     */
+    private Flux<Void> subscribeAndRebuild() {
+        return listenerContainer.receiveLater(ChannelTopic.of(REVOCATION_CHANNEL))
+                .flatMapMany(messages -> Flux.merge(
+                        messages.doOnNext(message -> localRevocationSet.add(message.getMessage())).then(),
+                        rebuild()))
+                .concatWith(Mono.error(new IllegalStateException("Revocation channel subscription closed")));
+    }
+
+    /**
+     * Redis 블랙리스트 전체를 SCAN하여 로컬 집합 재구성 (동시에 한 번만 수행)
+     */
+    private Mono<Void> rebuild() {
+        return Mono.defer(() -> rebuilding.compareAndSet(false, true) ? scanAndRebuild() : Mono.<Void>empty());
+    }
+
+    private Mono<Void> scanAndRebuild() {
+        Flux<String> revocationIds = scanKeys(TokenBlacklistService.REVOKED_PREFIX);
+        if (legacyKeyEnabled) {
+            revocationIds = revocationIds.concatWith(scanKeys(TokenBlacklistService.BLACKLIST_PREFIX)
+                    .flatMapIterable(token -> jwtTokenProvider.parseClaims(token)
+                            .map(JwtClaims::revocationId)
+                            .stream()
+                            .toList()));
+        }
+
+        return Mono.fromRunnable(localRevocationSet::beginRebuild)
+                .thenMany(revocationIds)
+                .doOnNext(localRevocationSet::addRebuilt)
+                .then(Mono.fromRunnable(() -> {
+                    localRevocationSet.completeRebuild();
+                    log.info("Local revocation set rebuilt - entries: {}", localRevocationSet.size());
+                }))
+                .doOnError(error -> {
+                    localRevocationSet.abortRebuild();
+                    log.error("Failed to rebuild local revocation set", error);
+                })
+                .doFinally(signal -> rebuilding.set(false))
+                .then();
+    }
+
+    /**
+     * prefix로 시작하는 키를 SCAN하여 prefix를 뗀 값을 반환
+     */
+    private Flux<String> scanKeys(String prefix) {
+        return reactiveRedisTemplate.scan(ScanOptions.scanOptions()
+                        .match(prefix + "*")
+                        .count(SCAN_COUNT)
+                        .build())
+                .map(key -> key.substring(prefix.length()));
+    }
+}
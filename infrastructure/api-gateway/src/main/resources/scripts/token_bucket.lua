@@ -0,0 +1,40 @@
+-- 토큰 버킷 Rate Limiter (Gateway 인스턴스 로컬 선할당용)
+--
+-- KEYS[1] : 버킷 키 (Hash: tokens, ts)
+-- ARGV[1] : replenishRate (초당 보충 토큰 수)
+-- ARGV[2] : burstCapacity (버킷 최대 토큰 수)
+-- ARGV[3] : requested (요청 토큰 수 = 로컬 선할당 크기)
+--
+-- 반환: { granted, remaining }
+--   granted   : 실제 지급한 토큰 수 (0 ~ requested, 부족하면 남은 만큼만 지급)
+--   remaining : 지급 후 버킷에 남은 토큰 수 (내림)
+--
+-- 시각은 Redis TIME을 사용하여 Gateway 인스턴스 간 시계 차이의 영향을 받지 않는다.
+
+local key = KEYS[1]
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil then
+  tokens = capacity
+  ts = now
+end
+
+local elapsed = math.max(0, now - ts)
+tokens = math.min(capacity, tokens + elapsed * rate / 1000)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+-- 버킷이 가득 차는 시간의 2배 후 자동 삭제 (가득 찬 버킷은 키가 없는 것과 동일)
+redis.call('PEXPIRE', key, math.ceil(capacity / rate * 2000))
+
+return { granted, math.floor(tokens) }
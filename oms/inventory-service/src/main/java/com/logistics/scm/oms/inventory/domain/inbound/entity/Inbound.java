@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.inventory.domain.inbound.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.inventory.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -34,7 +35,7 @@ import java.util.UUID;
 public class Inbound extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "inbound_id", columnDefinition = "uuid")
     private UUID inboundId;
 
@@ -9,17 +9,15 @@ import com.logistics.scm.oms.inventory.domain.inbound.entity.InboundStatus;
 import com.logistics.scm.oms.inventory.domain.inbound.exception.InboundNotFoundException;
 import com.logistics.scm.oms.inventory.domain.inbound.repository.InboundRepository;
 import com.logistics.scm.oms.inventory.domain.inventory.service.InventoryService;
-import com.logistics.scm.oms.inventory.event.outbox.service.OutboxService;
+import com.logistics.scm.identifier.number.NumberGenerator;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -41,8 +39,7 @@ public class InboundServiceImpl implements InboundService {
     private final InventoryService inventoryService;
     private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
-
-    private static final AtomicLong SEQUENCE = new AtomicLong(1);
+    private final NumberGenerator numberGenerator;
 
     @Override
     @Transactional
@@ -208,10 +205,9 @@ public class InboundServiceImpl implements InboundService {
 
     /**
      * 입고 번호 생성 (IB-yyyyMMdd-SEQ)
+     * 인스턴스 재시작/다중 인스턴스에서도 중복되지 않는 Snowflake 일련번호 사용
      */
     private String generateInboundNumber() {
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long seq = SEQUENCE.getAndIncrement();
-        return String.format("IB-%s-%09d", dateStr, seq);
+        return numberGenerator.next("IB");
     }
 }
@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.inventory.domain.inventory.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.inventory.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -37,7 +38,7 @@ import java.util.UUID;
 public class Inventory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "inventory_id", columnDefinition = "uuid")
     private UUID inventoryId;
 
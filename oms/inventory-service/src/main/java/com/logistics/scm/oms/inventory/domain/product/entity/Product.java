@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.inventory.domain.product.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.inventory.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -36,7 +37,7 @@ import java.util.UUID;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "product_id", columnDefinition = "uuid")
     private UUID productId;
 
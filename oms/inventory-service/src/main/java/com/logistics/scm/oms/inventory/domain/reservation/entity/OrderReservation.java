@@ -0,0 +1,109 @@
+package com.logistics.scm.oms.inventory.domain.reservation.entity;
+
+import com.logistics.scm.oms.inventory.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 재고 예약 Entity
+ * 
+ * 주문 단위 예약/해제 여부를 기록하여 주문 이벤트 처리를 주문 범위로 한정하고 멱등하게 만듭니다.
+ * - 주문 취소 시 RELEASED로 바뀌며, 이미 RELEASED면 다시 해제하지 않음
+ * - 예약 전에 취소가 먼저 처리되면 RELEASED 행만 남겨, 늦게 도착한 주문 생성 이벤트의 예약을 거부
+ * 
+ * 항목별 예약 수량은 StockMovement(RESERVED, referenceOrderId)에 기록됩니다.
+ * PK(orderId)를 직접 할당하므로 Persistable로 신규 여부를 알려 save() 시 merge용 SELECT 없이 INSERT합니다.
+ */
+@Entity
+@Table(name = "order_reservation_tb")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderReservation extends BaseEntity implements Persistable<UUID> {
+
+    /**
+     * 주문 ID
+     */
+    @Id
+    @Column(name = "order_id", columnDefinition = "uuid")
+    private UUID orderId;
+
+    /**
+     * 예약 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status", nullable = false, length = 20)
+    private OrderReservationStatus reservationStatus;
+
+    /**
+     * 해제 시각
+     */
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    /**
+     * 신규 생성 여부 (조회/저장 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return this.orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 해제 완료 여부
+     */
+    public boolean isReleased() {
+        return this.reservationStatus == OrderReservationStatus.RELEASED;
+    }
+
+    /**
+     * 예약 해제
+     */
+    public void release() {
+        this.reservationStatus = OrderReservationStatus.RELEASED;
+        this.releasedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 예약 정적 팩토리 메서드
+     */
+    public static OrderReservation reserved(UUID orderId) {
+        return OrderReservation.builder()
+                .orderId(orderId)
+                .reservationStatus(OrderReservationStatus.RESERVED)
+                .build();
+    }
+
+    /**
+     * 예약 전 취소 정적 팩토리 메서드 (이후 예약 거부용)
+     */
+    public static OrderReservation released(UUID orderId) {
+        return OrderReservation.builder()
+                .orderId(orderId)
+                .reservationStatus(OrderReservationStatus.RELEASED)
+                .releasedAt(LocalDateTime.now())
+                .build();
+    }
+}
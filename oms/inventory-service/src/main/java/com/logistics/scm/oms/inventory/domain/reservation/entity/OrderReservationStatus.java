@@ -0,0 +1,12 @@
+package com.logistics.scm.oms.inventory.domain.reservation.entity;
+
+/**
+ * 주문 재고 예약 상태
+ * 
+ * RESERVED → RELEASED (주문 취소 / 타임아웃 보상으로 예약 해제)
+ * (없음)   → RELEASED (예약 전에 취소 도착 - 이후 도착한 주문 생성 이벤트는 예약하지 않음)
+ */
+public enum OrderReservationStatus {
+    RESERVED,
+    RELEASED
+}
@@ -0,0 +1,30 @@
+package com.logistics.scm.oms.inventory.domain.reservation.repository;
+
+import com.logistics.scm.oms.inventory.domain.reservation.entity.OrderReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 재고 예약 Repository
+ */
+@Repository
+public interface OrderReservationRepository extends JpaRepository<OrderReservation, UUID> {
+
+    /**
+     * 주문 예약 조회 (행 잠금)
+     * 같은 주문의 예약과 해제가 동시에 처리되지 않도록 잠금
+     *
+     * @param orderId 주문 ID
+     * @return 주문 예약
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM OrderReservation r WHERE r.orderId = :orderId")
+    Optional<OrderReservation> findByIdForUpdate(@Param("orderId") UUID orderId);
+}
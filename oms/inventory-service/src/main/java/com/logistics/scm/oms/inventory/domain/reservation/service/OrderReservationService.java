@@ -0,0 +1,32 @@
+package com.logistics.scm.oms.inventory.domain.reservation.service;
+
+import com.logistics.scm.oms.inventory.domain.inventory.dto.request.ReleaseStockRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 재고 예약 서비스 인터페이스
+ */
+public interface OrderReservationService {
+
+    /**
+     * 주문 예약 시작 기록 (호출한 트랜잭션 안에서 항목별 재고 예약과 함께 커밋)
+     *
+     * @param orderId 주문 ID
+     * @return 예약 진행 여부 (이미 예약되었거나 먼저 취소된 주문이면 false)
+     */
+    boolean begin(UUID orderId);
+
+    /**
+     * 주문 예약 해제
+     * 해당 주문으로 예약된(RESERVED - RELEASED) 수량만 해제하며, 이미 해제된 주문은 다시 해제하지 않음
+     * 예약 기록이 없으면 해제 기록만 남겨 이후 도착한 예약을 거부
+     *
+     * @param orderId 주문 ID
+     * @param referenceOrderId 재고 이동 이력의 참조 주문 ID (주문 번호)
+     * @param remarks 비고
+     * @return 해제한 항목 (해제할 예약이 없으면 빈 목록)
+     */
+    List<ReleaseStockRequest> release(UUID orderId, String referenceOrderId, String remarks);
+}
@@ -0,0 +1,104 @@
+package com.logistics.scm.oms.inventory.domain.reservation.service;
+
+import com.logistics.scm.oms.inventory.domain.inventory.dto.request.ReleaseStockRequest;
+import com.logistics.scm.oms.inventory.domain.inventory.entity.Inventory;
+import com.logistics.scm.oms.inventory.domain.inventory.respository.InventoryRepository;
+import com.logistics.scm.oms.inventory.domain.inventory.service.InventoryService;
+import com.logistics.scm.oms.inventory.domain.reservation.entity.OrderReservation;
+import com.logistics.scm.oms.inventory.domain.reservation.repository.OrderReservationRepository;
+import com.logistics.scm.oms.inventory.domain.stockmovement.entity.StockMovement;
+import com.logistics.scm.oms.inventory.domain.stockmovement.entity.StockMovementType;
+import com.logistics.scm.oms.inventory.domain.stockmovement.repository.StockMovementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 재고 예약 서비스 구현체
+ * 
+ * 주문 단위 예약 기록(order_reservation_tb)을 잠가 같은 주문의 예약/해제를 직렬화하고,
+ * 해제 수량은 상품/창고 기준이 아니라 해당 주문의 재고 이동 이력(RESERVED - RELEASED)으로 계산합니다.
+ * 따라서 예약하지 못한 주문의 취소가 다른 주문의 할당 재고를 풀지 않고, 같은 취소가 재전달되어도 한 번만 해제됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderReservationServiceImpl implements OrderReservationService {
+
+    private final OrderReservationRepository orderReservationRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryService inventoryService;
+
+    @Override
+    @Transactional
+    public boolean begin(UUID orderId) {
+        Optional<OrderReservation> existing = orderReservationRepository.findByIdForUpdate(orderId);
+        if (existing.isPresent()) {
+            log.warn("이미 예약되었거나 취소된 주문, 재고 예약 생략: orderId={}, status={}",
+                    orderId, existing.get().getReservationStatus());
+            return false;
+        }
+        orderReservationRepository.save(OrderReservation.reserved(orderId));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<ReleaseStockRequest> release(UUID orderId, String referenceOrderId, String remarks) {
+        Optional<OrderReservation> existing = orderReservationRepository.findByIdForUpdate(orderId);
+        if (existing.isPresent() && existing.get().isReleased()) {
+            log.info("이미 해제된 주문 예약, 해제 생략: orderId={}", orderId);
+            return List.of();
+        }
+
+        // 예약 기록 도입 이전에 예약된 주문도 재고 이동 이력으로 해제 (기록이 없으면 해제 대상 없음)
+        List<ReleaseStockRequest> releases = new ArrayList<>();
+        outstandingQuantities(referenceOrderId).forEach((inventoryId, quantity) -> {
+            Inventory inventory = inventoryRepository.findById(inventoryId)
+                    .orElseThrow(() -> new IllegalStateException("예약 재고 없음: inventoryId=" + inventoryId));
+            ReleaseStockRequest request = ReleaseStockRequest.builder()
+                    .warehouseId(inventory.getWarehouseId())
+                    .productCode(inventory.getProductCode())
+                    .quantity(quantity)
+                    .referenceOrderId(referenceOrderId)
+                    .remarks(remarks)
+                    .build();
+            inventoryService.releaseStock(request);
+            releases.add(request);
+        });
+
+        if (existing.isPresent()) {
+            existing.get().release();
+        } else {
+            orderReservationRepository.save(OrderReservation.released(orderId));
+        }
+        return releases;
+    }
+
+    /**
+     * 주문이 아직 점유 중인 재고별 수량 (RESERVED 합계 - RELEASED 합계, 0 이하 제외)
+     */
+    private Map<UUID, Integer> outstandingQuantities(String referenceOrderId) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        List<StockMovement> movements = stockMovementRepository.findByReferenceOrderIdAndMovementTypeIn(
+                referenceOrderId, EnumSet.of(StockMovementType.RESERVED, StockMovementType.RELEASED));
+        for (StockMovement movement : movements) {
+            int signed = movement.getMovementType() == StockMovementType.RESERVED
+                    ? movement.getQuantity()
+                    : -movement.getQuantity();
+            quantities.merge(movement.getInventoryId(), signed, Integer::sum);
+        }
+        quantities.values().removeIf(quantity -> quantity <= 0);
+        return quantities;
+    }
+}
@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.inventory.domain.stockmovement.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.inventory.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -28,12 +29,13 @@ import java.util.UUID;
     @Index(name = "idx_movement_type", columnList = "movement_type"),
     @Index(name = "idx_reference_type", columnList = "reference_type"),
     @Index(name = "idx_reference_id", columnList = "reference_id"),
+    @Index(name = "idx_reference_order_id", columnList = "reference_order_id"),
     @Index(name = "idx_movement_date", columnList = "movement_date")
 })
 public class StockMovement extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "movement_id", columnDefinition = "uuid")
     private UUID movementId;
 
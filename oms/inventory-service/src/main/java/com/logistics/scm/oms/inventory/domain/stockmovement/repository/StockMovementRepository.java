@@ -5,6 +5,7 @@ import com.logistics.scm.oms.inventory.domain.stockmovement.entity.StockMovement
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,4 +41,14 @@ public interface StockMovementRepository extends JpaRepository<StockMovement, UU
      * @return 이동 이력 목록
      */
     List<StockMovement> findByReferenceOrderId(String referenceOrderId);
+
+    /**
+     * 참조 주문ID와 이동 유형으로 이력 조회
+     *
+     * @param referenceOrderId 참조 주문 ID
+     * @param movementTypes 이동 유형 목록
+     * @return 이동 이력 목록
+     */
+    List<StockMovement> findByReferenceOrderIdAndMovementTypeIn(String referenceOrderId,
+                                                                Collection<StockMovementType> movementTypes);
 }
@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.inventory.event.listener;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.logistics.scm.oms.inventory.domain.inventory.dto.request.ReleaseStockRequest;
 import com.logistics.scm.oms.inventory.domain.inventory.dto.request.ReserveStockRequest;
@@ -10,11 +11,16 @@ import com.logistics.scm.oms.inventory.event.order.OrderCancelledEvent;
 import com.logistics.scm.oms.inventory.event.order.OrderCreatedEvent;
 import com.logistics.scm.oms.inventory.domain.inventory.exception.InsufficientStockException;
 import com.logistics.scm.oms.inventory.domain.inventory.service.InventoryService;
-import com.logistics.scm.oms.inventory.event.outbox.service.OutboxService;
-import lombok.RequiredArgsConstructor;
+import com.logistics.scm.oms.inventory.domain.reservation.service.OrderReservationService;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
+import com.logistics.scm.messaging.inbox.service.InboxService;
+import com.logistics.scm.messaging.kafka.MessagingHeaders;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,80 +32,77 @@ import java.util.UUID;
  * 
  * Order Service에서 발행한 이벤트를 구독하여 재고 관리 수행
  * Outbox Pattern 적용: 재고 변경과 이벤트를 동일 트랜잭션으로 처리
+ * 
+ * order-events 토픽을 리스너 하나로 구독하고 eventType 헤더로 처리 메서드를 선택합니다.
+ * (타입별 리스너를 같은 group-id로 두면 파티션이 나뉘어 배정되어 다른 타입 레코드가 유실됨)
+ * 
+ * Inbox 수신 이력도 같은 트랜잭션에 기록하므로, 처리가 롤백되면 수신 이력도 남지 않아 재전달 시 다시 처리됩니다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderEventListener {
 
     private final InventoryService inventoryService;
+    private final OrderReservationService orderReservationService;
     private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
+    private final InboxService inboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderEventListener(InventoryService inventoryService,
+                              OrderReservationService orderReservationService,
+                              OutboxService outboxService,
+                              ObjectMapper objectMapper,
+                              InboxService inboxService,
+                              PlatformTransactionManager transactionManager) {
+        this.inventoryService = inventoryService;
+        this.orderReservationService = orderReservationService;
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
+        this.inboxService = inboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
-     * 주문 생성 이벤트 처리
-     * 재고를 예약하고 결과 이벤트를 Outbox에 저장
+     * 주문 이벤트 수신 및 eventType별 처리
+     * eventType 헤더가 없거나 처리 대상이 아닌 이벤트는 건너뜀
+     * 트랜잭션 경계는 처리 메서드별로 transactionTemplate에서 지정
      */
     @KafkaListener(
             topics = "${kafka.topics.order-events}",
             groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "orderCreatedEventKafkaListenerContainerFactory"
+            containerFactory = "orderEventKafkaListenerContainerFactory"
     )
-    public void handleOrderCreatedEvent(OrderCreatedEvent event) {
+    public void onOrderEvent(ConsumerRecord<String, String> record) {
+        String eventType = MessagingHeaders.valueOf(record, MessagingHeaders.EVENT_TYPE);
+        switch (eventType != null ? eventType : "") {
+            case "OrderCreatedEvent" -> handleOrderCreatedEvent(read(record, OrderCreatedEvent.class));
+            case "OrderCancelledEvent" -> transactionTemplate.executeWithoutResult(
+                    status -> handleOrderCancelledEvent(read(record, OrderCancelledEvent.class)));
+            default -> log.debug("처리 대상이 아닌 주문 이벤트: eventType={}, offset={}", eventType, record.offset());
+        }
+    }
+
+    /**
+     * 주문 생성 이벤트 처리
+     * 재고를 예약하고 결과 이벤트를 Outbox에 저장
+     * 
+     * 예약이 하나라도 실패하면 앞서 예약한 항목까지 모두 롤백한 뒤,
+     * 별도 트랜잭션에서 수신 이력과 실패 이벤트를 저장합니다. (실패 이벤트 저장도 실패하면 예외를 던져 재전달)
+     */
+    private void handleOrderCreatedEvent(OrderCreatedEvent event) {
         log.info("주문 생성 이벤트 수신: orderId={}, orderNumber={}", 
                 event.getOrderId(), event.getOrderNumber());
 
         try {
-            // 주문 항목별로 재고 예약
-            List<InventoryReservedEvent.ReservationItem> reservations = new ArrayList<>();
-
-            for (OrderCreatedEvent.OrderItemEvent item : event.getItems()) {
-                ReserveStockRequest request = ReserveStockRequest.builder()
-                        .warehouseId(UUID.fromString(item.getWarehouseId()))
-                        .productCode(item.getProductCode())
-                        .quantity(item.getQuantity())
-                        .referenceOrderId(event.getOrderNumber())
-                        .remarks("주문 생성으로 인한 재고 예약")
-                        .build();
-
-                // 재고 예약
-                inventoryService.reserveStock(request);
-
-                // 예약 성공 항목 추가
-                reservations.add(InventoryReservedEvent.ReservationItem.builder()
-                        .productCode(item.getProductCode())
-                        .quantity(item.getQuantity())
-                        .warehouseId(item.getWarehouseId())
-                        .build());
-
-                log.info("재고 예약 성공: productCode={}, quantity={}", 
-                        item.getProductCode(), item.getQuantity());
-            }
-
-            // 재고 예약 성공 이벤트를 Outbox에 저장
-            InventoryReservedEvent reservedEvent = InventoryReservedEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .orderId(event.getOrderId())
-                    .orderNumber(event.getOrderNumber())
-                    .reservations(reservations)
-                    .reservedAt(LocalDateTime.now())
-                    .build();
-
-            String payload = objectMapper.writeValueAsString(reservedEvent);
-            outboxService.saveOutbox(
-                    "Inventory",
-                    event.getOrderId(),
-                    "InventoryReservedEvent",
-                    payload
-            );
-            log.info("재고 예약 성공 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
+            transactionTemplate.executeWithoutResult(status -> reserveStock(event));
 
         } catch (InsufficientStockException e) {
             log.warn("재고 부족으로 주문 실패: orderId={}, productCode={}, requestedQty={}, availableQty={}",
                     event.getOrderId(), e.getProductCode(), e.getRequestedQuantity(), e.getAvailableQuantity());
 
             // 재고 예약 실패 이벤트를 Outbox에 저장
-            InventoryReservationFailedEvent failedEvent = InventoryReservationFailedEvent.builder()
+            saveReservationFailedEvent(event, InventoryReservationFailedEvent.builder()
                     .eventId(UUID.randomUUID().toString())
                     .orderId(event.getOrderId())
                     .orderNumber(event.getOrderNumber())
@@ -108,107 +111,162 @@ public class OrderEventListener {
                     .requestedQuantity(e.getRequestedQuantity())
                     .availableQuantity(e.getAvailableQuantity())
                     .failedAt(LocalDateTime.now())
-                    .build();
-
-            try {
-                String payload = objectMapper.writeValueAsString(failedEvent);
-                outboxService.saveOutbox(
-                        "Inventory",
-                        event.getOrderId(),
-                        "InventoryReservationFailedEvent",
-                        payload
-                );
-                log.info("재고 예약 실패 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
-            } catch (Exception ex) {
-                log.error("재고 예약 실패 이벤트 Outbox 저장 실패: orderId={}", event.getOrderId(), ex);
-            }
+                    .build());
 
         } catch (Exception e) {
             log.error("주문 생성 이벤트 처리 중 오류 발생: orderId={}", event.getOrderId(), e);
 
             // 일반 오류도 실패 이벤트로 Outbox에 저장
-            InventoryReservationFailedEvent failedEvent = InventoryReservationFailedEvent.builder()
+            saveReservationFailedEvent(event, InventoryReservationFailedEvent.builder()
                     .eventId(UUID.randomUUID().toString())
                     .orderId(event.getOrderId())
                     .orderNumber(event.getOrderNumber())
                     .reason("재고 처리 중 시스템 오류: " + e.getMessage())
                     .failedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    /**
+     * 주문 항목별 재고 예약 및 예약 성공 이벤트 저장 (transactionTemplate 안에서 호출)
+     * 타임아웃 보상으로 취소가 먼저 처리된 주문은 예약하지 않음 (취소 후 예약된 재고는 해제할 이벤트가 없음)
+     */
+    private void reserveStock(OrderCreatedEvent event) {
+        if (isDuplicate(event.getEventId(), "OrderCreatedEvent")) {
+            return;
+        }
+        if (!orderReservationService.begin(UUID.fromString(event.getOrderId()))) {
+            return;
+        }
+
+        // 주문 항목별로 재고 예약
+        List<InventoryReservedEvent.ReservationItem> reservations = new ArrayList<>();
+
+        for (OrderCreatedEvent.OrderItemEvent item : event.getItems()) {
+            ReserveStockRequest request = ReserveStockRequest.builder()
+                    .warehouseId(UUID.fromString(item.getWarehouseId()))
+                    .productCode(item.getProductCode())
+                    .quantity(item.getQuantity())
+                    .referenceOrderId(event.getOrderNumber())
+                    .remarks("주문 생성으로 인한 재고 예약")
                     .build();
 
-            try {
-                String payload = objectMapper.writeValueAsString(failedEvent);
-                outboxService.saveOutbox(
-                        "Inventory",
-                        event.getOrderId(),
-                        "InventoryReservationFailedEvent",
-                        payload
-                );
-            } catch (Exception ex) {
-                log.error("재고 예약 실패 이벤트 Outbox 저장 실패: orderId={}", event.getOrderId(), ex);
-            }
+            // 재고 예약
+            inventoryService.reserveStock(request);
+
+            // 예약 성공 항목 추가
+            reservations.add(InventoryReservedEvent.ReservationItem.builder()
+                    .productCode(item.getProductCode())
+                    .quantity(item.getQuantity())
+                    .warehouseId(item.getWarehouseId())
+                    .build());
+
+            log.info("재고 예약 성공: productCode={}, quantity={}", 
+                    item.getProductCode(), item.getQuantity());
+        }
+
+        // 재고 예약 성공 이벤트를 Outbox에 저장
+        InventoryReservedEvent reservedEvent = InventoryReservedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .orderId(event.getOrderId())
+                .orderNumber(event.getOrderNumber())
+                .reservations(reservations)
+                .reservedAt(LocalDateTime.now())
+                .build();
+
+        saveOutbox(event.getOrderId(), "InventoryReservedEvent", reservedEvent);
+        log.info("재고 예약 성공 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
+    }
+
+    /**
+     * 재고 예약 실패 이벤트 저장 (예약 트랜잭션이 롤백된 뒤 새 트랜잭션에서 수신 이력과 함께 저장)
+     */
+    private void saveReservationFailedEvent(OrderCreatedEvent event, InventoryReservationFailedEvent failedEvent) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (isDuplicate(event.getEventId(), "OrderCreatedEvent")) {
+                    return;
+                }
+                saveOutbox(event.getOrderId(), "InventoryReservationFailedEvent", failedEvent);
+                log.info("재고 예약 실패 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
+            });
+        } catch (RuntimeException ex) {
+            log.error("재고 예약 실패 이벤트 Outbox 저장 실패, 재전달 대기: orderId={}", event.getOrderId(), ex);
+            throw ex;
         }
     }
 
     /**
      * 주문 취소 이벤트 처리
-     * 예약된 재고를 해제하고 결과 이벤트를 Outbox에 저장
+     * 이 주문으로 예약된 재고만 해제하고 결과 이벤트를 Outbox에 저장
+     * 처리 중 오류가 나면 수신 이력과 함께 롤백되고 예외를 던져 재전달 받음 (transactionTemplate 안에서 호출)
      */
-    @KafkaListener(
-            topics = "${kafka.topics.order-events}",
-            groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "orderCancelledEventKafkaListenerContainerFactory"
-    )
-    public void handleOrderCancelledEvent(OrderCancelledEvent event) {
+    private void handleOrderCancelledEvent(OrderCancelledEvent event) {
+        if (isDuplicate(event.getEventId(), "OrderCancelledEvent")) {
+            return;
+        }
+
         log.info("주문 취소 이벤트 수신: orderId={}, orderNumber={}", 
                 event.getOrderId(), event.getOrderNumber());
 
+        // 이 주문으로 예약된 수량만 해제 (예약하지 못했거나 이미 해제된 주문이면 해제 항목 없음)
+        List<ReleaseStockRequest> requests = orderReservationService.release(
+                UUID.fromString(event.getOrderId()),
+                event.getOrderNumber(),
+                "주문 취소로 인한 재고 원복: " + event.getCancelReason());
+
+        List<InventoryReleasedEvent.ReleaseItem> releases = new ArrayList<>();
+        for (ReleaseStockRequest request : requests) {
+            releases.add(InventoryReleasedEvent.ReleaseItem.builder()
+                    .productCode(request.getProductCode())
+                    .quantity(request.getQuantity())
+                    .warehouseId(request.getWarehouseId().toString())
+                    .build());
+
+            log.info("재고 해제 성공: productCode={}, quantity={}", 
+                    request.getProductCode(), request.getQuantity());
+        }
+
+        // 재고 해제 완료 이벤트를 Outbox에 저장
+        InventoryReleasedEvent releasedEvent = InventoryReleasedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .orderId(event.getOrderId())
+                .orderNumber(event.getOrderNumber())
+                .releases(releases)
+                .releasedAt(LocalDateTime.now())
+                .build();
+
+        saveOutbox(event.getOrderId(), "InventoryReleasedEvent", releasedEvent);
+        log.info("재고 해제 완료 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
+    }
+
+    /**
+     * 이벤트를 직렬화하여 Outbox에 저장
+     */
+    private void saveOutbox(String orderId, String eventType, Object event) {
         try {
-            // 주문 항목별로 재고 해제
-            List<InventoryReleasedEvent.ReleaseItem> releases = new ArrayList<>();
-
-            for (OrderCancelledEvent.OrderItemEvent item : event.getItems()) {
-                ReleaseStockRequest request = ReleaseStockRequest.builder()
-                        .warehouseId(UUID.fromString(item.getWarehouseId()))
-                        .productCode(item.getProductCode())
-                        .quantity(item.getQuantity())
-                        .referenceOrderId(event.getOrderNumber())
-                        .remarks("주문 취소로 인한 재고 원복: " + event.getCancelReason())
-                        .build();
-
-                // 재고 해제
-                inventoryService.releaseStock(request);
-
-                // 해제 성공 항목 추가
-                releases.add(InventoryReleasedEvent.ReleaseItem.builder()
-                        .productCode(item.getProductCode())
-                        .quantity(item.getQuantity())
-                        .warehouseId(item.getWarehouseId())
-                        .build());
-
-                log.info("재고 해제 성공: productCode={}, quantity={}", 
-                        item.getProductCode(), item.getQuantity());
-            }
-
-            // 재고 해제 완료 이벤트를 Outbox에 저장
-            InventoryReleasedEvent releasedEvent = InventoryReleasedEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .orderId(event.getOrderId())
-                    .orderNumber(event.getOrderNumber())
-                    .releases(releases)
-                    .releasedAt(LocalDateTime.now())
-                    .build();
+            outboxService.saveOutbox("Inventory", orderId, eventType, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
 
-            String payload = objectMapper.writeValueAsString(releasedEvent);
-            outboxService.saveOutbox(
-                    "Inventory",
-                    event.getOrderId(),
-                    "InventoryReleasedEvent",
-                    payload
-            );
-            log.info("재고 해제 완료 이벤트 Outbox 저장 완료: orderId={}", event.getOrderId());
+    private <T> T read(ConsumerRecord<String, String> record, Class<T> type) {
+        try {
+            return objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 변환 실패: offset=" + record.offset(), e);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("주문 취소 이벤트 처리 중 오류 발생: orderId={}", event.getOrderId(), e);
+    /**
+     * 중복 수신 여부 확인 (Inbox)
+     * 재전달된 이벤트로 재고/주문 상태가 두 번 변경되지 않도록 eventId 기준으로 한 번만 처리
+     */
+    private boolean isDuplicate(String eventId, String eventType) {
+        if (eventId == null) {
+            return false;
         }
+        return !inboxService.tryAcquire(eventId, "inventory-service." + eventType);
     }
 }
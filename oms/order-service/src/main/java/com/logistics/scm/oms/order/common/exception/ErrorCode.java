@@ -22,6 +22,8 @@ public enum ErrorCode {
     DUPLICATE_ENTITY(HttpStatus.CONFLICT, "C004", "이미 존재하는 데이터입니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "C005", "인증이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "C006", "접근 권한이 없습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C007", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C008", "같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // 주문 관련 (O001~O999)
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "O001", "주문을 찾을 수 없습니다."),
@@ -33,7 +35,8 @@ public enum ErrorCode {
     ORDER_ALREADY_COMPLETED(HttpStatus.CONFLICT, "O007", "이미 완료된 주문입니다."),
     ORDER_CREATE_FAILED(HttpStatus.BAD_REQUEST, "O008", "주문 생성에 실패했습니다."),
     ORDER_CONFIRM_FAILED(HttpStatus.BAD_REQUEST, "O009", "주문 확정에 실패했습니다."),
-    INVALID_ORDER_ITEM(HttpStatus.BAD_REQUEST, "O010", "유효하지 않은 주문 항목입니다.");
+    INVALID_ORDER_ITEM(HttpStatus.BAD_REQUEST, "O010", "유효하지 않은 주문 항목입니다."),
+    ORDER_ACCEPTANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "O011", "주문 접수 내역을 찾을 수 없습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,225 @@
+package com.logistics.scm.oms.order.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.oms.order.common.dto.ErrorResponse;
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 필터
+ * 
+ * 주문 생성(POST /api/v1/orders/**) 요청에 Idempotency-Key 헤더가 있으면
+ * 같은 키의 재시도에 최초 처리 응답을 그대로 반환하여 중복 주문/중복 재고 예약을 방지합니다.
+ * 
+ * - 같은 키 + 같은 요청: 저장된 응답 재전송 (Idempotent-Replayed: true)
+ * - 같은 키 + 다른 요청: 422 (키 재사용)
+ * - 같은 키가 다른 인스턴스에서 처리 중: 409 (잠시 후 재시도)
+ * - 5xx 응답/예외: 저장하지 않고 처리 표시 해제 (같은 키로 재시도 가능)
+ * 
+ * 키는 인증 사용자(X-User-Name) 단위로 구분하므로, 다른 사용자가 같은 키를 보내도 서로의 응답이 재전송되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String USER_HEADER = "X-User-Name";
+    private static final String ANONYMOUS = "anonymous";
+    private static final String ORDER_PATH = "/api/v1/orders";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(ORDER_PATH)
+                || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, ErrorCode.INVALID_INPUT_VALUE);
+            return;
+        }
+        String key = scopedKey(request, idempotencyKey);
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+
+        // 1. 처리 완료된 키면 저장된 응답 반환
+        IdempotentResponse stored = idempotencyStore.find(key);
+        if (stored != null) {
+            replayOrReject(request, response, key, fingerprint, stored);
+            return;
+        }
+
+        // 2. 같은 인스턴스에서 처리 중이면 결과를 기다려 함께 응답
+        CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> running = idempotencyStore.registerInFlight(key, result);
+        if (running != null) {
+            awaitAndReplay(request, response, key, fingerprint, running);
+            return;
+        }
+
+        try {
+            // 3. 다른 인스턴스에서 처리 중/완료된 키인지 확인 후 처리 표시
+            if (!idempotencyStore.tryAcquire(key, fingerprint)) {
+                IdempotentResponse current = idempotencyStore.find(key);
+                result.complete(current != null && !current.isInProgress() ? current : null);
+                if (current != null) {
+                    replayOrReject(request, response, key, fingerprint, current);
+                } else {
+                    writeError(request, response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                }
+                return;
+            }
+
+            // 4. 최초 요청 처리 후 응답 저장
+            ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+            try {
+                filterChain.doFilter(cachedRequest, cachedResponse);
+            } catch (IOException | ServletException | RuntimeException e) {
+                idempotencyStore.release(key);
+                result.complete(null);
+                throw e;
+            }
+
+            if (cachedResponse.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                idempotencyStore.release(key);
+                result.complete(null);
+            } else {
+                IdempotentResponse completed = IdempotentResponse.builder()
+                        .fingerprint(fingerprint)
+                        .status(cachedResponse.getStatus())
+                        .contentType(cachedResponse.getContentType())
+                        .body(new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8))
+                        .build();
+                idempotencyStore.complete(key, completed);
+                result.complete(completed);
+            }
+            cachedResponse.copyBodyToResponse();
+        } finally {
+            idempotencyStore.removeInFlight(key, result);
+        }
+    }
+
+    /**
+     * 처리 중인 같은 키 요청의 결과 대기 후 응답
+     */
+    private void awaitAndReplay(HttpServletRequest request, HttpServletResponse response, String key,
+                                String fingerprint, CompletableFuture<IdempotentResponse> running) throws IOException {
+        try {
+            IdempotentResponse completed = running.get(
+                    idempotencyStore.getLockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (completed == null) {
+                writeError(request, response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+            replayOrReject(request, response, key, fingerprint, completed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException | TimeoutException e) {
+            writeError(request, response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 같은 요청이면 저장된 응답 재전송, 다른 요청이면 거부
+     */
+    private void replayOrReject(HttpServletRequest request, HttpServletResponse response, String key,
+                                String fingerprint, IdempotentResponse stored) throws IOException {
+        if (!stored.matches(fingerprint)) {
+            log.warn("Idempotency-Key 재사용 (요청 불일치): key={}", key);
+            writeError(request, response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        if (stored.isInProgress()) {
+            writeError(request, response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+
+        log.info("Idempotency-Key 재요청, 저장된 응답 반환: key={}, status={}", key, stored.getStatus());
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getBody() != null) {
+            byte[] body = stored.getBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            ErrorCode errorCode) throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .status(errorCode.getStatus().value())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * 사용자 단위 키 ({URL 인코딩된 X-User-Name}:{Idempotency-Key})
+     * 사용자명을 인코딩하여 ':'가 포함되어도 다른 사용자의 키와 겹치지 않음
+     */
+    private String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        String user = request.getHeader(USER_HEADER);
+        String scope = user != null && !user.isBlank() ? URLEncoder.encode(user, StandardCharsets.UTF_8) : ANONYMOUS;
+        return scope + ":" + idempotencyKey;
+    }
+
+    /**
+     * 요청 지문 (SHA-256(method + URI + body))
+     */
+    private String fingerprint(CachedBodyHttpServletRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.logistics.scm.oms.order.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Idempotency-Key 저장소
+ * 
+ * - 로컬(Caffeine): 처리 완료 응답만 보관, 같은 인스턴스로 들어온 재시도는 Redis 왕복 없이 응답
+ * - Redis: 인스턴스 간 공유, 처리 중 표시(SET NX + 잠금 TTL) 및 처리 완료 응답(보관 TTL) 저장
+ * - In-flight: 같은 인스턴스에서 동시에 들어온 중복 요청은 최초 요청의 처리 결과를 기다려 함께 응답
+ * 
+ * Redis 장애 시에는 로컬 저장소만으로 동작 (주문 생성 자체를 막지 않음)
+ * 
+ * Redis Key 형식:
+ * - Key: "idempotency:order:{X-User-Name}:{Idempotency-Key}" (IdempotencyFilter가 사용자 단위로 구분한 키)
+ * - Value: IdempotentResponse JSON
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:order:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<String, IdempotentResponse> localCache;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${order.idempotency.ttl-ms:86400000}") long ttlMs,
+                            @Value("${order.idempotency.lock-timeout-ms:30000}") long lockTimeoutMs,
+                            @Value("${order.idempotency.local-max-size:10000}") long localMaxSize,
+                            @Value("${order.idempotency.local-ttl-ms:600000}") long localTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(Math.min(localTtlMs, ttlMs)))
+                .build();
+    }
+
+    /**
+     * 저장된 값 조회 (로컬 → Redis)
+     *
+     * @param key 사용자 단위 Idempotency-Key
+     * @return 저장된 값 (없으면 null)
+     */
+    public IdempotentResponse find(String key) {
+        IdempotentResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) {
+                return null;
+            }
+            IdempotentResponse stored = objectMapper.readValue(value, IdempotentResponse.class);
+            if (!stored.isInProgress()) {
+                localCache.put(key, stored);
+            }
+            return stored;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency-Key 조회 실패, 로컬 저장소로만 처리: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 처리 시작 표시 (인스턴스 간 중복 처리 방지)
+     *
+     * @param key 사용자 단위 Idempotency-Key
+     * @param fingerprint 요청 지문
+     * @return 표시 성공 여부 (다른 요청이 이미 처리 중/완료면 false)
+     */
+    public boolean tryAcquire(String key, String fingerprint) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    KEY_PREFIX + key, objectMapper.writeValueAsString(IdempotentResponse.inProgress(fingerprint)), lockTimeout);
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency-Key 처리 표시 실패, 로컬 저장소로만 처리: key={}, error={}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 처리 완료 응답 저장
+     *
+     * @param key 사용자 단위 Idempotency-Key
+     * @param response 응답
+     */
+    public void complete(String key, IdempotentResponse response) {
+        localCache.put(key, response);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(response), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency-Key 응답 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 표시 해제 (처리 실패 시 같은 키로 재시도 가능하도록)
+     *
+     * @param key 사용자 단위 Idempotency-Key
+     */
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 처리 표시 해제 실패 (잠금 TTL 후 만료): key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 인스턴스의 처리 중 요청 등록
+     *
+     * @param key 사용자 단위 Idempotency-Key
+     * @param future 처리 결과
+     * @return 이미 처리 중인 요청의 결과 (없으면 null, 이번 요청이 처리 담당)
+     */
+    public CompletableFuture<IdempotentResponse> registerInFlight(String key, CompletableFuture<IdempotentResponse> future) {
+        return inFlight.putIfAbsent(key, future);
+    }
+
+    /**
+     * 같은 인스턴스의 처리 중 요청 해제
+     */
+    public void removeInFlight(String key, CompletableFuture<IdempotentResponse> future) {
+        inFlight.remove(key, future);
+    }
+
+    /**
+     * 처리 중 요청 대기 시간 상한
+     */
+    public Duration getLockTimeout() {
+        return lockTimeout;
+    }
+}
@@ -0,0 +1,62 @@
+package com.logistics.scm.oms.order.common.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 저장 값
+ * 
+ * 처리 중(inProgress)에는 요청 지문만, 처리 완료 후에는 응답(상태 코드/Content-Type/본문)을 함께 보관
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotentResponse {
+
+    /**
+     * 처리 중 여부 (다른 인스턴스가 처리 중)
+     */
+    private boolean inProgress;
+
+    /**
+     * 요청 지문 (SHA-256(method + URI + body))
+     */
+    private String fingerprint;
+
+    /**
+     * 응답 상태 코드
+     */
+    private int status;
+
+    /**
+     * 응답 Content-Type
+     */
+    private String contentType;
+
+    /**
+     * 응답 본문
+     */
+    private String body;
+
+    /**
+     * 처리 중 표시 생성
+     */
+    public static IdempotentResponse inProgress(String fingerprint) {
+        return IdempotentResponse.builder()
+                .inProgress(true)
+                .fingerprint(fingerprint)
+                .build();
+    }
+
+    /**
+     * 같은 요청의 재시도인지 확인 (같은 키로 다른 요청을 보낸 경우 false)
+     */
+    @JsonIgnore
+    public boolean matches(String fingerprint) {
+        return this.fingerprint != null && this.fingerprint.equals(fingerprint);
+    }
+}
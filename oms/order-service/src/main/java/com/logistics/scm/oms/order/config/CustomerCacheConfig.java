@@ -0,0 +1,28 @@
+package com.logistics.scm.oms.order.config;
+
+import com.logistics.scm.oms.order.domain.customer.cache.CustomerProfileEvictionChannel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 고객 프로필 캐시 설정
+ * 
+ * - Redis Pub/Sub: 고객 정보 변경 시 모든 인스턴스의 로컬 프로필 캐시 무효화
+ */
+@Configuration
+public class CustomerCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer customerProfileListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CustomerProfileEvictionChannel customerProfileEvictionChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(customerProfileEvictionChannel,
+                new ChannelTopic(CustomerProfileEvictionChannel.CHANNEL));
+        return container;
+    }
+}
@@ -1,17 +1,17 @@
 package com.logistics.scm.oms.order.config;
 
-import com.logistics.scm.oms.order.event.inventory.InventoryReleasedEvent;
-import com.logistics.scm.oms.order.event.inventory.InventoryReservationFailedEvent;
-import com.logistics.scm.oms.order.event.inventory.InventoryReservedEvent;
+import com.logistics.scm.messaging.kafka.TracingRecordInterceptor;
+import com.logistics.scm.messaging.metrics.MessagingMetrics;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,100 +20,63 @@ import java.util.Map;
  * Kafka Consumer 설정
  * 
  * Order Service에서 Inventory 이벤트를 구독하기 위한 설정
+ * 하나의 토픽에 여러 이벤트 타입이 발행되므로 토픽당 리스너 컨테이너 하나로 받고, 리스너가 eventType 헤더로 분기
+ * (같은 group-id로 타입별 컨테이너를 두면 파티션이 나뉘어 배정되어 다른 타입 레코드가 폐기됨)
+ * traceparent 헤더는 리스너 스레드로 전파되어 리스너가 저장하는 Outbox 이벤트로 이어짐
  */
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    private final MessagingMetrics messagingMetrics;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
      * Consumer 공통 설정
+     * 페이로드는 JSON 문자열로 받아 리스너가 eventType에 맞는 타입으로 변환
      */
     private Map<String, Object> consumerConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.logistics.scm.oms.order.event.inventory");
         return props;
     }
 
     /**
-     * InventoryReservedEvent Consumer Factory
-     */
-    @Bean
-    public ConsumerFactory<String, InventoryReservedEvent> inventoryReservedEventConsumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(
-                consumerConfigs(),
-                new StringDeserializer(),
-                new JsonDeserializer<>(InventoryReservedEvent.class, false)
-        );
-    }
-
-    /**
-     * InventoryReservedEvent Listener Container Factory
+     * inventory-events 토픽 Consumer Factory
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, InventoryReservedEvent> 
-            inventoryReservedEventKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, InventoryReservedEvent> factory = 
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(inventoryReservedEventConsumerFactory());
-        return factory;
+    public ConsumerFactory<String, String> inventoryEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
     /**
-     * InventoryReservationFailedEvent Consumer Factory
+     * inventory-events 토픽 Listener Container Factory (InventoryReservedEvent, InventoryReservationFailedEvent, InventoryReleasedEvent)
+     * Saga 추적 인터셉터 및 실행 스레드 설정
+     * 리스너 컨테이너 팩토리를 직접 생성하므로 spring.threads.virtual.enabled를 여기서 반영
      */
     @Bean
-    public ConsumerFactory<String, InventoryReservationFailedEvent> 
-            inventoryReservationFailedEventConsumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(
-                consumerConfigs(),
-                new StringDeserializer(),
-                new JsonDeserializer<>(InventoryReservationFailedEvent.class, false)
-        );
-    }
+    public ConcurrentKafkaListenerContainerFactory<String, String> inventoryEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(inventoryEventConsumerFactory());
+        factory.setRecordInterceptor(new TracingRecordInterceptor<>(messagingMetrics));
 
-    /**
-     * InventoryReservationFailedEvent Listener Container Factory
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, InventoryReservationFailedEvent> 
-            inventoryReservationFailedEventKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, InventoryReservationFailedEvent> factory = 
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(inventoryReservationFailedEventConsumerFactory());
-        return factory;
-    }
-
-    /**
-     * InventoryReleasedEvent Consumer Factory
-     */
-    @Bean
-    public ConsumerFactory<String, InventoryReleasedEvent> inventoryReleasedEventConsumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(
-                consumerConfigs(),
-                new StringDeserializer(),
-                new JsonDeserializer<>(InventoryReleasedEvent.class, false)
-        );
-    }
-
-    /**
-     * InventoryReleasedEvent Listener Container Factory
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, InventoryReleasedEvent> 
-            inventoryReleasedEventKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, InventoryReleasedEvent> factory = 
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(inventoryReleasedEventConsumerFactory());
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("inventoryEvent-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
         return factory;
     }
 }
@@ -0,0 +1,47 @@
+package com.logistics.scm.oms.order.config;
+
+import com.logistics.scm.oms.order.domain.acceptance.stream.OrderAcceptanceStore;
+import com.logistics.scm.oms.order.domain.acceptance.stream.OrderAcceptanceStreamHub;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 주문 접수 설정
+ * 
+ * - orderAcceptanceExecutor: 접수된 주문 생성 즉시 실행 (대기열 상한 초과분은 복구 스케줄러가 처리)
+ * - Redis Pub/Sub: 접수 상태 변경을 모든 인스턴스의 SSE 연결로 전달
+ */
+@Configuration
+public class OrderAcceptanceConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor orderAcceptanceExecutor(
+            @Value("${order.async.pool-size:16}") int poolSize,
+            @Value("${order.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-acceptance-");
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        // 종료 시 대기 중인 접수 건은 처리 후 종료 (남은 건은 ACCEPTED로 저장되어 있어 복구 스케줄러가 처리)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer orderAcceptanceListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          OrderAcceptanceStreamHub orderAcceptanceStreamHub) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderAcceptanceStreamHub, new ChannelTopic(OrderAcceptanceStore.CHANNEL));
+        return container;
+    }
+}
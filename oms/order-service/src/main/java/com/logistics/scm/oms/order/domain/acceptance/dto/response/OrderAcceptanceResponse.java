@@ -0,0 +1,94 @@
+package com.logistics.scm.oms.order.domain.acceptance.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptance;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 상태 응답 DTO
+ * 
+ * 접수 상태 저장소(Redis)의 값 및 SSE 이벤트 데이터로도 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "비동기 주문 접수 상태")
+public class OrderAcceptanceResponse {
+
+    @Schema(description = "접수 ID (상태 조회/스트림 구독 키)", example = "01950c8e-7a3b-7c21-9d4e-5f6a7b8c9d0e")
+    private String acceptanceId;
+
+    @Schema(description = "접수 상태", example = "ACCEPTED")
+    private Status status;
+
+    @Schema(description = "주문 ID (주문 생성 후)", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID orderId;
+
+    @Schema(description = "주문 번호 (주문 생성 후)", example = "ORD-20260205-0000123456789012345")
+    private String orderNumber;
+
+    @Schema(description = "실패 사유 (FAILED)", example = "주문 생성에 실패했습니다.")
+    private String message;
+
+    @Schema(description = "상태 변경 일시", example = "2026-02-05T10:30:00")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 접수 상태
+     */
+    @Schema(description = "접수 상태 코드")
+    public enum Status {
+        @Schema(description = "접수 (주문 생성 대기)") ACCEPTED,
+        @Schema(description = "주문 생성 (재고 예약 대기)") CREATED,
+        @Schema(description = "주문 확정") CONFIRMED,
+        @Schema(description = "주문 취소") CANCELLED,
+        @Schema(description = "주문 생성 실패") FAILED;
+
+        /**
+         * 더 이상 상태가 바뀌지 않는 최종 상태인지 확인
+         */
+        public boolean isTerminal() {
+            return this == CONFIRMED || this == CANCELLED || this == FAILED;
+        }
+
+        /**
+         * 상태 순위 (ACCEPTED 0 < CREATED 1 < 최종 상태 2)
+         * 접수 상태 저장소에서 이전 상태로 되돌아가는 저장을 막는 데 사용
+         */
+        public int rank() {
+            if (isTerminal()) {
+                return 2;
+            }
+            return this == CREATED ? 1 : 0;
+        }
+    }
+
+    /**
+     * 접수 Entity → 응답 DTO 변환
+     */
+    public static OrderAcceptanceResponse from(OrderAcceptance acceptance) {
+        Status status = Status.valueOf(acceptance.getAcceptanceStatus().name());
+        return OrderAcceptanceResponse.builder()
+                .acceptanceId(acceptance.getAcceptanceId().toString())
+                .status(status)
+                .orderId(acceptance.getOrderId())
+                .orderNumber(acceptance.getOrderNumber())
+                .message(status == Status.FAILED ? ErrorCode.ORDER_CREATE_FAILED.getMessage() : null)
+                .updatedAt(acceptance.getUpdatedAt() != null ? acceptance.getUpdatedAt() : acceptance.getCreatedAt())
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isTerminal() {
+        return status != null && status.isTerminal();
+    }
+}
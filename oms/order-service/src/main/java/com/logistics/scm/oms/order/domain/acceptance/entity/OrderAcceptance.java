@@ -0,0 +1,157 @@
+package com.logistics.scm.oms.order.domain.acceptance.entity;
+
+import com.logistics.scm.oms.order.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 Entity
+ * 
+ * 접수 요청을 202 응답 전에 저장하여, 인스턴스가 재시작되어도 접수된 주문이 유실되지 않도록 합니다.
+ * 주문 생성은 ACCEPTED 행을 잠근(SKIP LOCKED) 트랜잭션 안에서 수행하고 같은 트랜잭션에서 CREATED로 바꾸므로
+ * 접수 1건당 주문은 정확히 1건 생성되며, 주문 ID 매핑은 주문과 함께 커밋됩니다.
+ * 
+ * 복구 스케줄러는 (acceptance_status, next_attempt_at) 인덱스로 처리 기한이 지난 ACCEPTED 행만 조회합니다.
+ */
+@Entity
+@Table(name = "order_acceptance_tb", indexes = {
+        @Index(name = "idx_order_acceptance_status_next_attempt", columnList = "acceptance_status, next_attempt_at"),
+        @Index(name = "idx_order_acceptance_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderAcceptance extends BaseEntity implements Persistable<UUID> {
+
+    /**
+     * 접수 ID (UUIDv7)
+     */
+    @Id
+    @Column(name = "acceptance_id", columnDefinition = "uuid")
+    private UUID acceptanceId;
+
+    /**
+     * 주문 생성 요청 (JSON)
+     */
+    @Column(name = "request_payload", nullable = false, columnDefinition = "TEXT")
+    private String requestPayload;
+
+    /**
+     * 접수 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "acceptance_status", nullable = false, length = 20)
+    private OrderAcceptanceStatus acceptanceStatus;
+
+    /**
+     * 생성된 주문 ID (CREATED 이후)
+     */
+    @Column(name = "order_id", columnDefinition = "uuid")
+    private UUID orderId;
+
+    /**
+     * 생성된 주문 번호 (CREATED 이후)
+     */
+    @Column(name = "order_number", length = 50)
+    private String orderNumber;
+
+    /**
+     * 다음 처리 시각 (복구 스케줄러 조회 기준)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 주문 생성 재시도 횟수
+     */
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 신규 생성 여부 (조회/저장 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return this.acceptanceId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 주문 생성 완료
+     *
+     * @param orderId 주문 ID
+     * @param orderNumber 주문 번호
+     */
+    public void created(UUID orderId, String orderNumber) {
+        this.acceptanceStatus = OrderAcceptanceStatus.CREATED;
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.lastError = null;
+    }
+
+    /**
+     * 주문 생성 실패 기록 및 다음 시도 시각 설정
+     *
+     * @param errorMessage 오류 메시지
+     * @param nextAttemptAt 다음 시도 시각
+     */
+    public void retryLater(String errorMessage, LocalDateTime nextAttemptAt) {
+        this.retryCount++;
+        this.lastError = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 주문 생성 실패 (재시도하지 않음)
+     *
+     * @param errorMessage 오류 메시지
+     */
+    public void fail(String errorMessage) {
+        this.acceptanceStatus = OrderAcceptanceStatus.FAILED;
+        this.lastError = errorMessage;
+    }
+
+    /**
+     * 접수 정적 팩토리 메서드
+     *
+     * @param acceptanceId 접수 ID
+     * @param requestPayload 주문 생성 요청 (JSON)
+     * @param nextAttemptAt 복구 스케줄러가 처리를 이어받는 시각
+     */
+    public static OrderAcceptance accept(UUID acceptanceId, String requestPayload, LocalDateTime nextAttemptAt) {
+        return OrderAcceptance.builder()
+                .acceptanceId(acceptanceId)
+                .requestPayload(requestPayload)
+                .acceptanceStatus(OrderAcceptanceStatus.ACCEPTED)
+                .nextAttemptAt(nextAttemptAt)
+                .retryCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.logistics.scm.oms.order.domain.acceptance.entity;
+
+/**
+ * 비동기 주문 접수 상태
+ * 
+ * ACCEPTED → CREATED   (주문 생성과 같은 트랜잭션에서 커밋)
+ *          → FAILED    (주문 생성 실패 / 재시도 소진)
+ * CREATED  → CONFIRMED (재고 예약 성공)
+ *          → CANCELLED (재고 예약 실패 / 사용자 취소 / Saga 타임아웃)
+ */
+public enum OrderAcceptanceStatus {
+    ACCEPTED,
+    CREATED,
+    CONFIRMED,
+    CANCELLED,
+    FAILED
+}
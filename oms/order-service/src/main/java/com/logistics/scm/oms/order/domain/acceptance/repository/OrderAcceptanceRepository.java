@@ -0,0 +1,89 @@
+package com.logistics.scm.oms.order.domain.acceptance.repository;
+
+import com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptance;
+import com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptanceStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 Repository
+ */
+@Repository
+public interface OrderAcceptanceRepository extends JpaRepository<OrderAcceptance, UUID> {
+
+    /**
+     * 처리 기한이 지난 접수 ID 조회
+     * (acceptance_status, next_attempt_at) 인덱스 범위 스캔, 배치 크기만큼만 조회
+     *
+     * @param status 상태
+     * @param now 기준 시각
+     * @param pageable 배치 크기
+     * @return 접수 ID 목록
+     */
+    @Query("SELECT a.acceptanceId FROM OrderAcceptance a " +
+            "WHERE a.acceptanceStatus = :status AND a.nextAttemptAt <= :now " +
+            "ORDER BY a.nextAttemptAt")
+    List<UUID> findDueAcceptanceIds(@Param("status") OrderAcceptanceStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    /**
+     * 주문 생성 대상 접수 조회 및 행 잠금 (SKIP LOCKED)
+     * 즉시 처리(executor)와 복구 스케줄러, 여러 인스턴스가 같은 접수를 동시에 처리하지 않도록
+     * 다른 트랜잭션이 잠근 행이나 이미 처리된 행은 조회되지 않음
+     *
+     * @param acceptanceId 접수 ID
+     * @return 잠금 획득한 접수 (ACCEPTED)
+     */
+    @Query(value = "SELECT * FROM order_acceptance_tb " +
+            "WHERE acceptance_id = :acceptanceId AND acceptance_status = 'ACCEPTED' " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<OrderAcceptance> lockAccepted(@Param("acceptanceId") UUID acceptanceId);
+
+    /**
+     * 주문 ID로 접수 조회 (비동기 접수 주문이 아니면 empty)
+     *
+     * @param orderId 주문 ID
+     * @return 접수
+     */
+    Optional<OrderAcceptance> findByOrderId(UUID orderId);
+
+    /**
+     * 주문 결과 반영 (CREATED → CONFIRMED/CANCELLED)
+     * 조건부 단일 UPDATE로 최종 상태를 한 번만 반영 (이미 최종 상태면 0건)
+     *
+     * @param orderId 주문 ID
+     * @param status 최종 상태
+     * @param now 갱신 시각
+     * @return 갱신 건수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderAcceptance a SET a.acceptanceStatus = :status, a.updatedAt = :now " +
+            "WHERE a.orderId = :orderId " +
+            "AND a.acceptanceStatus = com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptanceStatus.CREATED")
+    int completeByOrderId(@Param("orderId") UUID orderId,
+                          @Param("status") OrderAcceptanceStatus status,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 접수 삭제 (처리 대기 중인 ACCEPTED 제외)
+     *
+     * @param before 기준 시각
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM OrderAcceptance a " +
+            "WHERE a.acceptanceStatus <> com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptanceStatus.ACCEPTED " +
+            "AND a.updatedAt < :before")
+    int deleteCompletedBefore(@Param("before") LocalDateTime before);
+}
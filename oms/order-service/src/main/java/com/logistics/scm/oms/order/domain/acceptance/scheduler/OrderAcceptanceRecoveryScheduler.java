@@ -0,0 +1,59 @@
+package com.logistics.scm.oms.order.domain.acceptance.scheduler;
+
+import com.logistics.scm.oms.order.domain.acceptance.service.OrderAcceptanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 복구 스케줄러
+ * 
+ * 즉시 처리(orderAcceptanceExecutor)가 대기열 초과/인스턴스 종료로 유실되었거나 재시도가 예약된 접수를
+ * 처리 기한이 지난 순서로 배치 크기만큼 조회하여 주문을 생성합니다.
+ * 접수 행은 SKIP LOCKED로 잠그므로 여러 인스턴스가 동시에 실행해도 같은 접수를 중복 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OrderAcceptanceRecoveryScheduler {
+
+    private final OrderAcceptanceService orderAcceptanceService;
+    private final int batchSize;
+
+    public OrderAcceptanceRecoveryScheduler(OrderAcceptanceService orderAcceptanceService,
+                                            @Value("${order.async.batch-size:500}") int batchSize) {
+        this.orderAcceptanceService = orderAcceptanceService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 처리 기한이 지난 접수 주문 생성
+     */
+    @Scheduled(fixedDelayString = "${order.async.scan-interval-ms:5000}")
+    public void recoverDueAcceptances() {
+        List<UUID> dueAcceptanceIds = orderAcceptanceService.findDueAcceptanceIds(batchSize);
+        if (dueAcceptanceIds.isEmpty()) {
+            return;
+        }
+
+        log.info("주문 접수 복구 처리 시작: {}건", dueAcceptanceIds.size());
+
+        for (UUID acceptanceId : dueAcceptanceIds) {
+            orderAcceptanceService.create(acceptanceId);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 접수 내역 삭제
+     */
+    @Scheduled(fixedDelayString = "${order.async.purge-interval-ms:600000}")
+    public void purgeExpiredAcceptances() {
+        int deleted = orderAcceptanceService.purgeExpired();
+        if (deleted > 0) {
+            log.info("주문 접수 내역 삭제: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.logistics.scm.oms.order.domain.acceptance.service;
+
+import com.logistics.scm.oms.order.domain.acceptance.dto.response.OrderAcceptanceResponse;
+import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 서비스 인터페이스
+ */
+public interface OrderAcceptanceService {
+
+    /**
+     * 주문 접수 (접수 내역을 DB에 저장한 뒤 반환, 주문 생성은 백그라운드에서 수행)
+     *
+     * @param request 주문 생성 요청
+     * @return 접수 상태 (ACCEPTED)
+     */
+    OrderAcceptanceResponse accept(OrderCreateRequest request);
+
+    /**
+     * 접수 건 주문 생성 (ACCEPTED 상태이고 다른 작업자가 처리 중이 아닐 때만)
+     *
+     * @param acceptanceId 접수 ID
+     */
+    void create(UUID acceptanceId);
+
+    /**
+     * 처리 기한이 지난 접수 ID 조회 (즉시 처리가 유실/실패한 건)
+     *
+     * @param batchSize 배치 크기
+     * @return 접수 ID 목록
+     */
+    List<UUID> findDueAcceptanceIds(int batchSize);
+
+    /**
+     * 보관 기간이 지난 접수 내역 삭제
+     *
+     * @return 삭제 건수
+     */
+    int purgeExpired();
+
+    /**
+     * 접수 상태 조회
+     *
+     * @param acceptanceId 접수 ID
+     * @return 접수 상태
+     */
+    OrderAcceptanceResponse loadAcceptance(String acceptanceId);
+
+    /**
+     * 접수 상태 스트림 구독 (SSE)
+     *
+     * @param acceptanceId 접수 ID
+     * @return SSE 연결
+     */
+    SseEmitter subscribe(String acceptanceId);
+
+    /**
+     * 주문 상태 변경 반영 (비동기 접수 주문만)
+     *
+     * @param orderId 주문 ID
+     * @param orderStatus 주문 상태
+     */
+    void applyOrderStatus(UUID orderId, Order.OrderStatus orderStatus);
+}
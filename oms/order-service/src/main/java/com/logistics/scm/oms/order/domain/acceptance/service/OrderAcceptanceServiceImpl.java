@@ -0,0 +1,235 @@
+package com.logistics.scm.oms.order.domain.acceptance.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.identifier.uuid.UuidV7Generator;
+import com.logistics.scm.oms.order.common.exception.BusinessException;
+import com.logistics.scm.oms.order.common.exception.EntityNotFoundException;
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import com.logistics.scm.oms.order.domain.acceptance.dto.response.OrderAcceptanceResponse;
+import com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptance;
+import com.logistics.scm.oms.order.domain.acceptance.entity.OrderAcceptanceStatus;
+import com.logistics.scm.oms.order.domain.acceptance.repository.OrderAcceptanceRepository;
+import com.logistics.scm.oms.order.domain.acceptance.stream.OrderAcceptanceStore;
+import com.logistics.scm.oms.order.domain.acceptance.stream.OrderAcceptanceStreamHub;
+import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.order.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 서비스 구현체
+ * 
+ * 접수 상태 흐름: ACCEPTED → CREATED (주문 생성 커밋) → CONFIRMED / CANCELLED (재고 예약 결과, Saga 타임아웃)
+ * 주문 생성 실패 시 FAILED
+ * 
+ * 접수 내역(order_acceptance_tb)을 커밋한 뒤 202를 반환하고, 주문 생성은 orderAcceptanceExecutor에서 즉시 시도합니다.
+ * 대기열 초과/인스턴스 종료로 즉시 처리가 유실되거나 실패하면 복구 스케줄러가 처리 기한이 지난 접수를 이어서 처리합니다.
+ * 
+ * 접수 상태의 원본은 DB이며, Redis(OrderAcceptanceStore)에는 커밋 후 사본을 저장/발행합니다.
+ */
+@Slf4j
+@Service
+public class OrderAcceptanceServiceImpl implements OrderAcceptanceService {
+
+    private final OrderService orderService;
+    private final OrderAcceptanceRepository orderAcceptanceRepository;
+    private final OrderAcceptanceStore orderAcceptanceStore;
+    private final OrderAcceptanceStreamHub orderAcceptanceStreamHub;
+    private final TaskExecutor orderAcceptanceExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final long recoveryDelayMs;
+    private final int maxRetries;
+    private final long retryIntervalMs;
+    private final long ttlMs;
+
+    public OrderAcceptanceServiceImpl(OrderService orderService,
+                                      OrderAcceptanceRepository orderAcceptanceRepository,
+                                      OrderAcceptanceStore orderAcceptanceStore,
+                                      OrderAcceptanceStreamHub orderAcceptanceStreamHub,
+                                      @Qualifier("orderAcceptanceExecutor") TaskExecutor orderAcceptanceExecutor,
+                                      PlatformTransactionManager transactionManager,
+                                      ObjectMapper objectMapper,
+                                      @Value("${order.async.recovery-delay-ms:30000}") long recoveryDelayMs,
+                                      @Value("${order.async.max-retries:3}") int maxRetries,
+                                      @Value("${order.async.retry-interval-ms:10000}") long retryIntervalMs,
+                                      @Value("${order.async.ttl-ms:3600000}") long ttlMs) {
+        this.orderService = orderService;
+        this.orderAcceptanceRepository = orderAcceptanceRepository;
+        this.orderAcceptanceStore = orderAcceptanceStore;
+        this.orderAcceptanceStreamHub = orderAcceptanceStreamHub;
+        this.orderAcceptanceExecutor = orderAcceptanceExecutor;
+        // 주문 상태 반영은 주문 트랜잭션 커밋 후(AFTER_COMMIT) 호출되므로, 이미 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.recoveryDelayMs = recoveryDelayMs;
+        this.maxRetries = maxRetries;
+        this.retryIntervalMs = retryIntervalMs;
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public OrderAcceptanceResponse accept(OrderCreateRequest request) {
+        // 즉시 처리가 끝나기 전에는 복구 스케줄러가 가져가지 않도록 처리 기한을 뒤로 설정
+        OrderAcceptance acceptance = orderAcceptanceRepository.save(OrderAcceptance.accept(
+                UuidV7Generator.next(),
+                writeRequest(request),
+                LocalDateTime.now().plusNanos(recoveryDelayMs * 1_000_000L)));
+        OrderAcceptanceResponse accepted = OrderAcceptanceResponse.from(acceptance);
+        publish(accepted);
+
+        try {
+            orderAcceptanceExecutor.execute(() -> create(acceptance.getAcceptanceId()));
+        } catch (TaskRejectedException e) {
+            // 접수 내역은 저장되었으므로 복구 스케줄러가 처리
+            log.warn("주문 접수 대기열 초과, 복구 스케줄러로 처리: acceptanceId={}", accepted.getAcceptanceId());
+        }
+
+        log.info("주문 접수: acceptanceId={}, customerId={}", accepted.getAcceptanceId(), request.getCustomerId());
+        return accepted;
+    }
+
+    @Override
+    public void create(UUID acceptanceId) {
+        OrderAcceptance result;
+        try {
+            result = transactionTemplate.execute(status -> orderAcceptanceRepository.lockAccepted(acceptanceId)
+                    .map(this::createOrder)
+                    .orElse(null));
+        } catch (Exception e) {
+            log.error("비동기 주문 생성 실패: acceptanceId={}", acceptanceId, e);
+            result = transactionTemplate.execute(status -> orderAcceptanceRepository.lockAccepted(acceptanceId)
+                    .map(acceptance -> recordFailure(acceptance, e))
+                    .orElse(null));
+        }
+
+        if (result != null) {
+            publish(OrderAcceptanceResponse.from(result));
+        }
+    }
+
+    @Override
+    public List<UUID> findDueAcceptanceIds(int batchSize) {
+        return orderAcceptanceRepository.findDueAcceptanceIds(
+                OrderAcceptanceStatus.ACCEPTED, LocalDateTime.now(), PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(ttlMs * 1_000_000L);
+        Integer deleted = transactionTemplate.execute(status -> orderAcceptanceRepository.deleteCompletedBefore(before));
+        return deleted != null ? deleted : 0;
+    }
+
+    @Override
+    public OrderAcceptanceResponse loadAcceptance(String acceptanceId) {
+        return findAcceptance(acceptanceId)
+                .map(OrderAcceptanceResponse::from)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ORDER_ACCEPTANCE_NOT_FOUND));
+    }
+
+    @Override
+    public SseEmitter subscribe(String acceptanceId) {
+        return orderAcceptanceStreamHub.subscribe(loadAcceptance(acceptanceId));
+    }
+
+    @Override
+    public void applyOrderStatus(UUID orderId, Order.OrderStatus orderStatus) {
+        OrderAcceptanceStatus status = switch (orderStatus) {
+            case CONFIRMED -> OrderAcceptanceStatus.CONFIRMED;
+            case CANCELLED -> OrderAcceptanceStatus.CANCELLED;
+            default -> null;
+        };
+        if (status == null) {
+            return;
+        }
+
+        // 접수-주문 매핑은 주문 생성과 함께 커밋되므로, 주문 상태가 바뀌는 시점에는 항상 조회됨
+        // CREATED인 접수만 조건부 UPDATE로 한 번 반영 (동시 반영/최종 상태 덮어쓰기 방지)
+        OrderAcceptance completed = transactionTemplate.execute(tx ->
+                orderAcceptanceRepository.completeByOrderId(orderId, status, LocalDateTime.now()) == 0
+                        ? null
+                        : orderAcceptanceRepository.findByOrderId(orderId).orElse(null));
+
+        if (completed != null) {
+            publish(OrderAcceptanceResponse.from(completed));
+        }
+    }
+
+    /**
+     * 주문 생성 및 접수 CREATED 반영 (접수 행 잠금 트랜잭션 안에서 호출)
+     */
+    private OrderAcceptance createOrder(OrderAcceptance acceptance) {
+        Order order = orderService.createOrder(Order.from(readRequest(acceptance.getRequestPayload())));
+        acceptance.created(order.getOrderId(), order.getOrderNumber());
+        return acceptance;
+    }
+
+    /**
+     * 주문 생성 실패 기록
+     * 요청 자체가 잘못된 경우(BusinessException)와 재시도 소진 시 FAILED, 그 외에는 재시도 예약
+     *
+     * @return FAILED로 바뀐 접수 (재시도 예약 시 null)
+     */
+    private OrderAcceptance recordFailure(OrderAcceptance acceptance, Exception e) {
+        if (e instanceof BusinessException || acceptance.getRetryCount() + 1 >= maxRetries) {
+            acceptance.fail(e.getMessage());
+            return acceptance;
+        }
+        acceptance.retryLater(e.getMessage(), LocalDateTime.now().plusNanos(retryIntervalMs * 1_000_000L));
+        return null;
+    }
+
+    private Optional<OrderAcceptance> findAcceptance(String acceptanceId) {
+        try {
+            return orderAcceptanceRepository.findById(UUID.fromString(acceptanceId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Redis 사본 저장/발행 (실패해도 DB 상태는 유지, 상태 조회 API로 확인 가능)
+     */
+    private void publish(OrderAcceptanceResponse acceptance) {
+        try {
+            orderAcceptanceStore.save(acceptance);
+        } catch (Exception e) {
+            log.warn("주문 접수 상태 발행 실패: acceptanceId={}, status={}, error={}",
+                    acceptance.getAcceptanceId(), acceptance.getStatus(), e.getMessage());
+        }
+    }
+
+    private String writeRequest(OrderCreateRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 생성 요청 변환 실패", e);
+        }
+    }
+
+    private OrderCreateRequest readRequest(String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 생성 요청 변환 실패", e);
+        }
+    }
+}
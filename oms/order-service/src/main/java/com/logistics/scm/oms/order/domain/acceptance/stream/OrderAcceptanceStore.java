@@ -0,0 +1,98 @@
+package com.logistics.scm.oms.order.domain.acceptance.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.oms.order.domain.acceptance.dto.response.OrderAcceptanceResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 접수 상태 저장소 (Redis)
+ * 
+ * 접수 상태의 원본은 order_acceptance_tb이며, 이 저장소는 조회/SSE 전달용 사본입니다.
+ * 상태 저장과 동시에 Redis Pub/Sub 채널로 발행하여, SSE 연결을 가진 인스턴스가 어디든 상태 변경을 전달받도록 함
+ * 
+ * 저장/발행은 Lua 스크립트(scripts/order_acceptance_save.lua)로 상태 순위를 비교하여 원자적으로 수행하므로
+ * 늦게 도착한 이전 상태(예: CONFIRMED 이후의 CREATED)가 최종 상태를 덮어쓰지 않습니다.
+ * 
+ * Redis Key 형식:
+ * - "order:acceptance:{acceptanceId}" → Hash (rank: 상태 순위, value: OrderAcceptanceResponse JSON)
+ * - 채널 "order:acceptance:events" → OrderAcceptanceResponse JSON
+ */
+@Slf4j
+@Component
+public class OrderAcceptanceStore {
+
+    public static final String CHANNEL = "order:acceptance:events";
+
+    private static final String KEY_PREFIX = "order:acceptance:";
+    private static final String VALUE_FIELD = "value";
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/order_acceptance_save.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public OrderAcceptanceStore(StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${order.async.ttl-ms:3600000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    /**
+     * 접수 상태 저장 및 발행 (저장된 상태보다 앞선 상태일 때만)
+     *
+     * @param acceptance 접수 상태
+     * @return 저장/발행 여부
+     */
+    public boolean save(OrderAcceptanceResponse acceptance) {
+        Long saved = redisTemplate.execute(SAVE_SCRIPT,
+                List.of(KEY_PREFIX + acceptance.getAcceptanceId()),
+                write(acceptance),
+                String.valueOf(acceptance.getStatus().rank()),
+                String.valueOf(ttl.toMillis()),
+                CHANNEL);
+        return saved != null && saved == 1L;
+    }
+
+    /**
+     * 접수 상태 조회
+     *
+     * @param acceptanceId 접수 ID
+     * @return 접수 상태 (만료/미존재 시 empty)
+     */
+    public Optional<OrderAcceptanceResponse> find(String acceptanceId) {
+        return Optional.ofNullable(redisTemplate.<String, String>opsForHash().get(KEY_PREFIX + acceptanceId, VALUE_FIELD))
+                .map(this::read);
+    }
+
+    /**
+     * Pub/Sub 메시지 해석
+     */
+    public OrderAcceptanceResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, OrderAcceptanceResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 상태 변환 실패", e);
+        }
+    }
+
+    private String write(OrderAcceptanceResponse acceptance) {
+        try {
+            return objectMapper.writeValueAsString(acceptance);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 상태 변환 실패: acceptanceId=" + acceptance.getAcceptanceId(), e);
+        }
+    }
+}
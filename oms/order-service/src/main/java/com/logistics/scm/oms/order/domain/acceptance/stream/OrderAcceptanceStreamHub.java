@@ -0,0 +1,98 @@
+package com.logistics.scm.oms.order.domain.acceptance.stream;
+
+import com.logistics.scm.oms.order.domain.acceptance.dto.response.OrderAcceptanceResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 주문 접수 상태 SSE 연결 관리
+ * 
+ * 이 인스턴스에 연결된 SseEmitter를 접수 ID별로 보관하고,
+ * Redis Pub/Sub(OrderAcceptanceStore.CHANNEL)으로 수신한 상태 변경을 해당 연결로 전달합니다.
+ * 최종 상태(CONFIRMED/CANCELLED/FAILED) 전달 후 연결을 종료합니다.
+ */
+@Slf4j
+@Component
+public class OrderAcceptanceStreamHub implements MessageListener {
+
+    private static final String EVENT_NAME = "status";
+
+    private final OrderAcceptanceStore orderAcceptanceStore;
+    private final long timeoutMs;
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public OrderAcceptanceStreamHub(OrderAcceptanceStore orderAcceptanceStore,
+                                    @Value("${order.async.stream-timeout-ms:300000}") long timeoutMs) {
+        this.orderAcceptanceStore = orderAcceptanceStore;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 상태 스트림 구독
+     * 구독 직후 현재 상태를 먼저 전달 (구독 전에 바뀐 상태 유실 방지)
+     *
+     * @param current 현재 접수 상태
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(OrderAcceptanceResponse current) {
+        String acceptanceId = current.getAcceptanceId();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        emitters.computeIfAbsent(acceptanceId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(acceptanceId, emitter));
+        emitter.onTimeout(() -> remove(acceptanceId, emitter));
+        emitter.onError(e -> remove(acceptanceId, emitter));
+
+        // 등록 이후 상태를 다시 읽어 전달 (등록 전후 발행된 변경을 놓치지 않도록, 조회한 상태보다 앞선 경우만)
+        OrderAcceptanceResponse latest = orderAcceptanceStore.find(acceptanceId)
+                .filter(stored -> stored.getStatus().rank() > current.getStatus().rank())
+                .orElse(current);
+        send(emitter, latest);
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        OrderAcceptanceResponse acceptance =
+                orderAcceptanceStore.read(new String(message.getBody(), StandardCharsets.UTF_8));
+        List<SseEmitter> subscribers = emitters.get(acceptance.getAcceptanceId());
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.forEach(emitter -> send(emitter, acceptance));
+    }
+
+    private void send(SseEmitter emitter, OrderAcceptanceResponse acceptance) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(acceptance.getStatus().name())
+                    .name(EVENT_NAME)
+                    .data(acceptance));
+            if (acceptance.isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("주문 접수 상태 전달 실패 (연결 종료): acceptanceId={}, error={}",
+                    acceptance.getAcceptanceId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String acceptanceId, SseEmitter emitter) {
+        emitters.computeIfPresent(acceptanceId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.logistics.scm.oms.order.domain.archive.dto;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.order.entity.OrderItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보관 주문 스냅샷
+ * 
+ * 보관 시점의 주문/주문 항목 전체를 담아 order_archive_tb.snapshot에 GZIP JSON으로 저장
+ * 필드 추가는 가능하나 삭제/이름 변경 시 기존 보관 데이터 복원이 깨지므로 주의
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderArchiveSnapshot {
+
+    private UUID orderId;
+    private String orderNumber;
+    private UUID customerId;
+    private Order.OrderStatus orderStatus;
+    private BigDecimal totalAmount;
+    private LocalDateTime orderDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String createdBy;
+    private String updatedBy;
+    private List<Item> items;
+
+    /**
+     * 보관 주문 항목
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private UUID orderItemId;
+        private String productCode;
+        private String productName;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal totalPrice;
+    }
+
+    /**
+     * Entity를 스냅샷으로 변환 (orderItems 초기화 필요)
+     */
+    public static OrderArchiveSnapshot from(Order order) {
+        return OrderArchiveSnapshot.builder()
+                .orderId(order.getOrderId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .orderStatus(order.getOrderStatus())
+                .totalAmount(order.getTotalAmount())
+                .orderDate(order.getOrderDate())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .createdBy(order.getCreatedBy())
+                .updatedBy(order.getUpdatedBy())
+                .items(order.getOrderItems().stream()
+                        .map(OrderArchiveSnapshot::toItem)
+                        .toList())
+                .build();
+    }
+
+    private static Item toItem(OrderItem item) {
+        return Item.builder()
+                .orderItemId(item.getOrderItemId())
+                .productCode(item.getProductCode())
+                .productName(item.getProductName())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .totalPrice(item.getTotalPrice())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.logistics.scm.oms.order.domain.archive.entity;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관 주문 Entity
+ * 
+ * 보관 기간이 지난 종료 주문(DELIVERED/CANCELLED)을 ORDER_TB / ORDER_ITEM_TB에서 옮겨 보관합니다.
+ * 주문/주문 항목 전체는 GZIP 압축한 JSON 스냅샷(snapshot) 한 컬럼에 저장하고,
+ * 식별/조회에 필요한 컬럼만 별도로 둡니다.
+ */
+@Entity
+@Table(name = "order_archive_tb", indexes = {
+        @Index(name = "idx_order_archive_customer_date", columnList = "customer_id, order_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderArchive implements Persistable<UUID> {
+
+    /**
+     * 주문 ID (ORDER_TB.order_id)
+     */
+    @Id
+    @Column(name = "order_id", columnDefinition = "uuid")
+    private UUID orderId;
+
+    /**
+     * 주문 번호
+     */
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    /**
+     * 고객 ID
+     */
+    @Column(name = "customer_id", nullable = false, columnDefinition = "uuid")
+    private UUID customerId;
+
+    /**
+     * 보관 시점 주문 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false, length = 20)
+    private Order.OrderStatus orderStatus;
+
+    /**
+     * 총 주문 금액
+     */
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    /**
+     * 주문 일시
+     */
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    /**
+     * 주문/주문 항목 스냅샷 (GZIP JSON)
+     */
+    @Column(name = "snapshot", nullable = false, columnDefinition = "bytea")
+    private byte[] snapshot;
+
+    /**
+     * 보관 일시
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 신규 생성 여부 (조회/저장 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return this.orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.logistics.scm.oms.order.domain.archive.repository;
+
+import com.logistics.scm.oms.order.domain.archive.entity.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * 보관 주문 Repository
+ */
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, UUID> {
+}
@@ -0,0 +1,51 @@
+package com.logistics.scm.oms.order.domain.archive.scheduler;
+
+import com.logistics.scm.oms.order.domain.archive.service.OrderArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 보관 스케줄러
+ * 
+ * 보관 대상이 남아 있는 동안 배치 단위로 반복 처리합니다.
+ * 배치마다 개별 트랜잭션이므로 중간 실패 시 이전 배치까지는 보관이 완료된 상태로 유지됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+    private final int batchSize;
+
+    public OrderArchiveScheduler(OrderArchiveService orderArchiveService,
+                                 @Value("${order.archive.batch-size:1000}") int batchSize) {
+        this.orderArchiveService = orderArchiveService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 보관 기간이 지난 종료 주문 보관
+     */
+    @Scheduled(cron = "${order.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        int total = 0;
+        try {
+            int archived;
+            do {
+                archived = orderArchiveService.archiveBatch();
+                total += archived;
+            } while (archived == batchSize);
+        } catch (Exception e) {
+            log.error("주문 보관 처리 실패: 완료 {}건", total, e);
+            return;
+        }
+
+        if (total > 0) {
+            log.info("주문 보관 완료: 총 {}건", total);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.logistics.scm.oms.order.domain.archive.service;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 보관 서비스 인터페이스
+ */
+public interface OrderArchiveService {
+
+    /**
+     * 보관 기간이 지난 종료 주문(DELIVERED/CANCELLED)을 배치 크기만큼 보관 테이블로 이동
+     *
+     * @return 보관 처리 건수
+     */
+    int archiveBatch();
+
+    /**
+     * 보관 주문 조회
+     *
+     * @param orderId 주문 ID
+     * @return 복원된 주문 (조회 전용, 보관되지 않았으면 empty)
+     */
+    Optional<Order> loadArchivedOrder(UUID orderId);
+}
@@ -0,0 +1,125 @@
+package com.logistics.scm.oms.order.domain.archive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.oms.order.domain.archive.dto.OrderArchiveSnapshot;
+import com.logistics.scm.oms.order.domain.archive.entity.OrderArchive;
+import com.logistics.scm.oms.order.domain.archive.repository.OrderArchiveRepository;
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.order.repository.OrderRepository;
+import com.logistics.scm.oms.order.domain.saga.service.OrderSagaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 보관 서비스 구현체
+ * 
+ * 한 배치를 하나의 트랜잭션에서 처리:
+ * 1. 보관 대상 주문 조회 (FOR UPDATE SKIP LOCKED, 다중 인스턴스 동시 실행 시 중복 처리 방지)
+ * 2. order_archive_tb에 스냅샷 배치 INSERT
+ * 3. ORDER_ITEM_TB / order_saga_tb / ORDER_TB에서 ID 목록 기준 일괄 DELETE
+ * 
+ * 주문 요약 조회 모델(order_summary_tb)은 목록 조회를 위해 유지
+ */
+@Slf4j
+@Service
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private static final Set<Order.OrderStatus> ARCHIVABLE_STATUSES =
+            EnumSet.of(Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED);
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderRepository orderRepository;
+    private final OrderSagaService orderSagaService;
+    private final ObjectMapper objectMapper;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public OrderArchiveServiceImpl(OrderArchiveRepository orderArchiveRepository,
+                                   OrderRepository orderRepository,
+                                   OrderSagaService orderSagaService,
+                                   ObjectMapper objectMapper,
+                                   @Value("${order.archive.retention-days:90}") int retentionDays,
+                                   @Value("${order.archive.batch-size:1000}") int batchSize) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderRepository = orderRepository;
+        this.orderSagaService = orderSagaService;
+        this.objectMapper = objectMapper;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int archiveBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        List<Order> orders = orderRepository.findArchivableForUpdate(
+                ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        orderArchiveRepository.saveAll(orders.stream()
+                .map(order -> OrderArchive.builder()
+                        .orderId(order.getOrderId())
+                        .orderNumber(order.getOrderNumber())
+                        .customerId(order.getCustomerId())
+                        .orderStatus(order.getOrderStatus())
+                        .totalAmount(order.getTotalAmount())
+                        .orderDate(order.getOrderDate())
+                        .snapshot(compress(OrderArchiveSnapshot.from(order)))
+                        .archivedAt(archivedAt)
+                        .build())
+                .toList());
+
+        List<UUID> orderIds = orders.stream().map(Order::getOrderId).toList();
+        orderRepository.deleteItemsByOrderIdIn(orderIds);
+        orderSagaService.deleteAll(orderIds);
+        orderRepository.deleteByOrderIdIn(orderIds);
+
+        log.info("주문 보관 처리: {}건 (기준 주문 일시 < {})", orderIds.size(), cutoff);
+        return orderIds.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> loadArchivedOrder(UUID orderId) {
+        return orderArchiveRepository.findById(orderId)
+                .map(archive -> Order.restore(decompress(archive.getSnapshot())));
+    }
+
+    private byte[] compress(OrderArchiveSnapshot snapshot) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, snapshot);
+        } catch (IOException e) {
+            throw new IllegalStateException("보관 주문 스냅샷 압축 실패: orderId=" + snapshot.getOrderId(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private OrderArchiveSnapshot decompress(byte[] snapshot) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot))) {
+            return objectMapper.readValue(in, OrderArchiveSnapshot.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("보관 주문 스냅샷 복원 실패", e);
+        }
+    }
+}
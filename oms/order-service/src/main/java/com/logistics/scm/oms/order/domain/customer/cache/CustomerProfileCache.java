@@ -0,0 +1,92 @@
+package com.logistics.scm.oms.order.domain.customer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.logistics.scm.oms.order.domain.customer.dto.response.CustomerProfileResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 고객 프로필 캐시 (customerId → 고객 프로필 + 기본 배송지)
+ * 
+ * - 크기: 항목 수가 아닌 추정 메모리 사용량(문자열 길이 기반) 합계로 제한
+ * - 갱신: 고객 정보 변경 트랜잭션 커밋 후 변경된 프로필로 교체 (CustomerServiceImpl)
+ * - 다른 인스턴스 변경분: Redis Pub/Sub 무효화로 즉시 반영 (CustomerProfileEvictionChannel), 유실 시 expire-after-write 이내
+ * - 메트릭: cache.gets / cache.puts / cache.evictions (cache=customer.profile)
+ */
+@Component
+public class CustomerProfileCache {
+
+    public static final String CACHE_NAME = "customer.profile";
+
+    /**
+     * 객체 헤더/참조/UUID 등 문자열 외 고정 비용 추정치 (bytes)
+     */
+    private static final int BASE_WEIGHT = 256;
+
+    private final Cache<UUID, CustomerProfileResponse> cache;
+
+    public CustomerProfileCache(MeterRegistry meterRegistry,
+                                @Value("${order.customer-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                                @Value("${order.customer-cache.expire-after-write-ms:3600000}") long expireAfterWriteMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((UUID customerId, CustomerProfileResponse profile) -> weigh(profile))
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 프로필 조회 (없으면 loader로 적재, loader가 null을 반환하면 캐시하지 않음)
+     */
+    public CustomerProfileResponse get(UUID customerId, Function<UUID, CustomerProfileResponse> loader) {
+        return cache.get(customerId, loader);
+    }
+
+    /**
+     * 프로필 교체
+     */
+    public void put(CustomerProfileResponse profile) {
+        cache.put(profile.getCustomerId(), profile);
+    }
+
+    /**
+     * 프로필 제거
+     */
+    public void evict(UUID customerId) {
+        cache.invalidate(customerId);
+    }
+
+    /**
+     * 추정 메모리 사용량 (Java 문자열 1자 = 최대 2 bytes)
+     */
+    private static int weigh(CustomerProfileResponse profile) {
+        int chars = length(profile.getCustomerName())
+                + length(profile.getEmail())
+                + length(profile.getPhoneNumber());
+
+        CustomerProfileResponse.ShippingAddress address = profile.getDefaultShippingAddress();
+        if (address != null) {
+            chars += length(address.getPostalCode())
+                    + length(address.getAddressLine1())
+                    + length(address.getAddressLine2())
+                    + length(address.getCity())
+                    + length(address.getState())
+                    + length(address.getCountry());
+        }
+        return BASE_WEIGHT + chars * 2;
+    }
+
+    private static int length(String value) {
+        return Objects.toString(value, "").length();
+    }
+}
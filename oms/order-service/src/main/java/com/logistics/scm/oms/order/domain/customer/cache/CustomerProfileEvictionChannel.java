@@ -0,0 +1,64 @@
+package com.logistics.scm.oms.order.domain.customer.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 고객 프로필 캐시 무효화 채널 (Redis Pub/Sub)
+ * 
+ * 한 인스턴스에서 고객 정보가 변경되면 다른 인스턴스의 로컬 캐시에서도 해당 프로필을 제거합니다.
+ * 발행 인스턴스는 이미 변경된 프로필로 교체했으므로 자신이 보낸 메시지는 무시합니다.
+ * 발행/수신이 실패하면 expire-after-write 이내에 반영됩니다.
+ * 
+ * 메시지 형식: "{instanceId}:{customerId}"
+ */
+@Slf4j
+@Component
+public class CustomerProfileEvictionChannel implements MessageListener {
+
+    public static final String CHANNEL = "customer:profile:evicted";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CustomerProfileCache customerProfileCache;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CustomerProfileEvictionChannel(StringRedisTemplate redisTemplate,
+                                          CustomerProfileCache customerProfileCache) {
+        this.redisTemplate = redisTemplate;
+        this.customerProfileCache = customerProfileCache;
+    }
+
+    /**
+     * 다른 인스턴스에 프로필 제거 요청
+     *
+     * @param customerId 고객 ID
+     */
+    public void publish(UUID customerId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + customerId);
+        } catch (Exception e) {
+            log.warn("고객 프로필 캐시 무효화 발행 실패 (만료 시간 내 반영): customerId={}, error={}",
+                    customerId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || instanceId.equals(body.substring(0, separator))) {
+            return;
+        }
+        try {
+            customerProfileCache.evict(UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 고객 프로필 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
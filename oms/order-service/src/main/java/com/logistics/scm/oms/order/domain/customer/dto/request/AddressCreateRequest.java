@@ -0,0 +1,57 @@
+package com.logistics.scm.oms.order.domain.customer.dto.request;
+
+import com.logistics.scm.oms.order.domain.customer.entity.Address;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 주소 추가 요청 DTO
+ */
+@Schema(description = "고객 주소 추가 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddressCreateRequest {
+
+    @Schema(description = "주소 유형", required = true, example = "SHIPPING")
+    @NotNull(message = "주소 유형은 필수입니다")
+    private Address.AddressType addressType;
+
+    @Schema(description = "우편번호", required = true, example = "06236")
+    @NotBlank(message = "우편번호는 필수입니다")
+    @Size(max = 10)
+    private String postalCode;
+
+    @Schema(description = "주소 1", required = true, example = "서울특별시 강남구 테헤란로 123")
+    @NotBlank(message = "주소는 필수입니다")
+    @Size(max = 200)
+    private String addressLine1;
+
+    @Schema(description = "주소 2", example = "4층")
+    @Size(max = 200)
+    private String addressLine2;
+
+    @Schema(description = "도시", required = true, example = "서울")
+    @NotBlank(message = "도시는 필수입니다")
+    @Size(max = 50)
+    private String city;
+
+    @Schema(description = "시/도", example = "서울특별시")
+    @Size(max = 50)
+    private String state;
+
+    @Schema(description = "국가", required = true, example = "KR")
+    @NotBlank(message = "국가는 필수입니다")
+    @Size(max = 50)
+    private String country;
+
+    @Schema(description = "기본 주소 여부 (같은 유형의 기존 기본 주소는 해제)", example = "true")
+    private boolean defaultAddress;
+}
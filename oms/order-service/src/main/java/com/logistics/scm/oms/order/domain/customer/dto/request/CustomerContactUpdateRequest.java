@@ -0,0 +1,32 @@
+package com.logistics.scm.oms.order.domain.customer.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 연락처 변경 요청 DTO
+ */
+@Schema(description = "고객 연락처 변경 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerContactUpdateRequest {
+
+    @Schema(description = "이메일", required = true, example = "customer@example.com")
+    @NotBlank(message = "이메일은 필수입니다")
+    @Email(message = "이메일 형식이 올바르지 않습니다")
+    @Size(max = 100, message = "이메일은 100자 이하여야 합니다")
+    private String email;
+
+    @Schema(description = "전화번호", required = true, example = "010-1234-5678")
+    @NotBlank(message = "전화번호는 필수입니다")
+    @Size(max = 20, message = "전화번호는 20자 이하여야 합니다")
+    private String phoneNumber;
+}
@@ -0,0 +1,101 @@
+package com.logistics.scm.oms.order.domain.customer.dto.response;
+
+import com.logistics.scm.oms.order.domain.customer.entity.Address;
+import com.logistics.scm.oms.order.domain.customer.entity.Customer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 고객 프로필 응답 DTO
+ * 
+ * 주문 접수에 필요한 고객 정보와 기본 배송지만 담은 불변 객체로, 고객 프로필 캐시의 값으로도 사용
+ */
+@Getter
+@Builder
+@Schema(description = "고객 프로필 (기본 배송지 포함)")
+public class CustomerProfileResponse {
+
+    @Schema(description = "고객 ID", example = "c1234567-1234-1234-1234-123456789012")
+    private final UUID customerId;
+
+    @Schema(description = "고객명", example = "홍길동")
+    private final String customerName;
+
+    @Schema(description = "이메일", example = "customer@example.com")
+    private final String email;
+
+    @Schema(description = "전화번호", example = "010-1234-5678")
+    private final String phoneNumber;
+
+    @Schema(description = "고객 유형", example = "INDIVIDUAL")
+    private final Customer.CustomerType customerType;
+
+    @Schema(description = "기본 배송지 (없으면 null)")
+    private final ShippingAddress defaultShippingAddress;
+
+    /**
+     * 기본 배송지
+     */
+    @Getter
+    @Builder
+    @Schema(description = "기본 배송지")
+    public static class ShippingAddress {
+
+        @Schema(description = "주소 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+        private final UUID addressId;
+
+        @Schema(description = "우편번호", example = "06236")
+        private final String postalCode;
+
+        @Schema(description = "주소 1", example = "서울특별시 강남구 테헤란로 123")
+        private final String addressLine1;
+
+        @Schema(description = "주소 2", example = "4층")
+        private final String addressLine2;
+
+        @Schema(description = "도시", example = "서울")
+        private final String city;
+
+        @Schema(description = "시/도", example = "서울특별시")
+        private final String state;
+
+        @Schema(description = "국가", example = "KR")
+        private final String country;
+
+        public static ShippingAddress from(Address address) {
+            return ShippingAddress.builder()
+                    .addressId(address.getAddressId())
+                    .postalCode(address.getPostalCode())
+                    .addressLine1(address.getAddressLine1())
+                    .addressLine2(address.getAddressLine2())
+                    .city(address.getCity())
+                    .state(address.getState())
+                    .country(address.getCountry())
+                    .build();
+        }
+    }
+
+    /**
+     * Entity를 DTO로 변환 (addresses 초기화 필요)
+     */
+    public static CustomerProfileResponse from(Customer customer) {
+        ShippingAddress defaultShippingAddress = customer.getAddresses().stream()
+                .filter(address -> address.getAddressType() == Address.AddressType.SHIPPING)
+                .filter(address -> Boolean.TRUE.equals(address.getIsDefault()))
+                .findFirst()
+                .map(ShippingAddress::from)
+                .orElse(null);
+
+        return CustomerProfileResponse.builder()
+                .customerId(customer.getCustomerId())
+                .customerName(customer.getCustomerName())
+                .email(customer.getEmail())
+                .phoneNumber(customer.getPhoneNumber())
+                .customerType(customer.getCustomerType())
+                .defaultShippingAddress(defaultShippingAddress)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.logistics.scm.oms.order.domain.customer.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.order.common.BaseEntity;
+import com.logistics.scm.oms.order.domain.customer.dto.request.AddressCreateRequest;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -29,7 +31,7 @@ import java.util.UUID;
 public class Address extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "address_id", columnDefinition = "uuid")
     private UUID addressId;
 
@@ -76,4 +78,20 @@ public class Address extends BaseEntity {
     public void unsetAsDefault() {
         this.isDefault = false;
     }
+
+    /**
+     * AddressCreateRequest DTO를 Address Entity로 변환
+     */
+    public static Address from(AddressCreateRequest request) {
+        Address address = new Address();
+        address.setAddressType(request.getAddressType());
+        address.setPostalCode(request.getPostalCode());
+        address.setAddressLine1(request.getAddressLine1());
+        address.setAddressLine2(request.getAddressLine2());
+        address.setCity(request.getCity());
+        address.setState(request.getState());
+        address.setCountry(request.getCountry());
+        address.setIsDefault(request.isDefaultAddress());
+        return address;
+    }
 }
@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.order.domain.customer.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.order.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -31,7 +32,7 @@ import java.util.UUID;
 public class Customer extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "customer_id", columnDefinition = "uuid")
     private UUID customerId;
 
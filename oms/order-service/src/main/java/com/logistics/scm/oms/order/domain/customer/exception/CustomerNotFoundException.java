@@ -0,0 +1,27 @@
+package com.logistics.scm.oms.order.domain.customer.exception;
+
+import com.logistics.scm.oms.order.common.exception.EntityNotFoundException;
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 고객 조회 실패 예외
+ * 요청한 고객을 찾을 수 없을 때 발생
+ */
+@Getter
+public class CustomerNotFoundException extends EntityNotFoundException {
+
+    private final UUID customerId;
+
+    public CustomerNotFoundException(UUID customerId) {
+        super(ErrorCode.CUSTOMER_NOT_FOUND);
+        this.customerId = customerId;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (고객ID: %s)", super.getMessage(), customerId);
+    }
+}
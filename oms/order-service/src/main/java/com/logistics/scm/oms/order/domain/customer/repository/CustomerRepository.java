@@ -0,0 +1,29 @@
+package com.logistics.scm.oms.order.domain.customer.repository;
+
+import com.logistics.scm.oms.order.domain.customer.entity.Customer;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 고객 Repository
+ */
+@Repository
+public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+
+    /**
+     * 고객 조회 (주소 포함)
+     * 고객 프로필 캐시 적재 시 주소를 LEFT JOIN 한 번에 로딩
+     *
+     * @param customerId 고객 ID
+     * @return 고객 정보 (주소 초기화됨)
+     */
+    @EntityGraph(attributePaths = "addresses")
+    @Query("SELECT c FROM Customer c WHERE c.customerId = :customerId")
+    Optional<Customer> findWithAddressesById(@Param("customerId") UUID customerId);
+}
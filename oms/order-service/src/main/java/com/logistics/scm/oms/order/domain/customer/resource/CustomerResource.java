@@ -0,0 +1,134 @@
+package com.logistics.scm.oms.order.domain.customer.resource;
+
+import com.logistics.scm.oms.order.common.dto.ApiResponse;
+import com.logistics.scm.oms.order.common.dto.ErrorResponse;
+import com.logistics.scm.oms.order.domain.customer.dto.request.AddressCreateRequest;
+import com.logistics.scm.oms.order.domain.customer.dto.request.CustomerContactUpdateRequest;
+import com.logistics.scm.oms.order.domain.customer.dto.response.CustomerProfileResponse;
+import com.logistics.scm.oms.order.domain.customer.entity.Address;
+import com.logistics.scm.oms.order.domain.customer.service.CustomerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 고객 API Resource
+ */
+@Tag(name = "고객", description = "고객 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/customers")
+@RequiredArgsConstructor
+public class CustomerResource {
+
+    private final CustomerService customerService;
+
+    /**
+     * 고객 프로필 조회
+     * GET /api/v1/customers/{id}/profile
+     */
+    @Operation(
+        summary = "고객 프로필 조회",
+        description = "주문 접수에 필요한 고객 정보와 기본 배송지를 조회합니다. (고객 프로필 캐시 사용)"
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = CustomerProfileResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "고객을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<ApiResponse<CustomerProfileResponse>> loadProfile(
+            @Parameter(description = "고객 ID (UUID)", required = true, example = "c1234567-1234-1234-1234-123456789012")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(
+                ApiResponse.success(customerService.loadCustomerProfile(id))
+        );
+    }
+
+    /**
+     * 고객 연락처 변경
+     * PATCH /api/v1/customers/{id}/contact
+     */
+    @Operation(
+        summary = "고객 연락처 변경",
+        description = "고객의 이메일/전화번호를 변경합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "변경 성공",
+            content = @Content(schema = @Schema(implementation = CustomerProfileResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "고객을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PatchMapping("/{id}/contact")
+    public ResponseEntity<ApiResponse<CustomerProfileResponse>> updateContact(
+            @Parameter(description = "고객 ID (UUID)", required = true, example = "c1234567-1234-1234-1234-123456789012")
+            @PathVariable UUID id,
+            @Valid @RequestBody CustomerContactUpdateRequest request) {
+        log.info("고객 연락처 변경 요청: id={}", id);
+
+        CustomerProfileResponse response =
+                customerService.updateContactInfo(id, request.getEmail(), request.getPhoneNumber());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "고객 연락처가 변경되었습니다.")
+        );
+    }
+
+    /**
+     * 고객 주소 추가
+     * POST /api/v1/customers/{id}/addresses
+     */
+    @Operation(
+        summary = "고객 주소 추가",
+        description = "고객 주소를 추가합니다. 기본 주소로 추가하면 같은 유형의 기존 기본 주소는 해제됩니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "201",
+            description = "추가 성공",
+            content = @Content(schema = @Schema(implementation = CustomerProfileResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "고객을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/{id}/addresses")
+    public ResponseEntity<ApiResponse<CustomerProfileResponse>> addAddress(
+            @Parameter(description = "고객 ID (UUID)", required = true, example = "c1234567-1234-1234-1234-123456789012")
+            @PathVariable UUID id,
+            @Valid @RequestBody AddressCreateRequest request) {
+        log.info("고객 주소 추가 요청: id={}, addressType={}", id, request.getAddressType());
+
+        CustomerProfileResponse response = customerService.addAddress(id, Address.from(request));
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "고객 주소가 추가되었습니다."));
+    }
+}
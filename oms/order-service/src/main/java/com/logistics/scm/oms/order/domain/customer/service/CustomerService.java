@@ -0,0 +1,42 @@
+package com.logistics.scm.oms.order.domain.customer.service;
+
+import com.logistics.scm.oms.order.domain.customer.dto.response.CustomerProfileResponse;
+import com.logistics.scm.oms.order.domain.customer.entity.Address;
+
+import java.util.UUID;
+
+/**
+ * 고객 서비스 인터페이스
+ */
+public interface CustomerService {
+
+    /**
+     * 고객 프로필 조회 (기본 배송지 포함)
+     * 캐시 적중 시 DB 조회 없음
+     *
+     * @param customerId 고객 ID
+     * @return 고객 프로필
+     */
+    CustomerProfileResponse loadCustomerProfile(UUID customerId);
+
+    /**
+     * 고객 연락처 변경
+     * 커밋 후 고객 프로필 캐시 갱신
+     *
+     * @param customerId 고객 ID
+     * @param email 이메일
+     * @param phoneNumber 전화번호
+     * @return 변경된 고객 프로필
+     */
+    CustomerProfileResponse updateContactInfo(UUID customerId, String email, String phoneNumber);
+
+    /**
+     * 고객 주소 추가
+     * 기본 주소로 추가하면 같은 유형의 기존 기본 주소는 해제, 커밋 후 고객 프로필 캐시 갱신
+     *
+     * @param customerId 고객 ID
+     * @param address 주소
+     * @return 변경된 고객 프로필
+     */
+    CustomerProfileResponse addAddress(UUID customerId, Address address);
+}
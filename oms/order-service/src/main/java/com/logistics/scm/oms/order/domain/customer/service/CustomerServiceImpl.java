@@ -0,0 +1,105 @@
+package com.logistics.scm.oms.order.domain.customer.service;
+
+import com.logistics.scm.oms.order.domain.customer.cache.CustomerProfileCache;
+import com.logistics.scm.oms.order.domain.customer.cache.CustomerProfileEvictionChannel;
+import com.logistics.scm.oms.order.domain.customer.dto.response.CustomerProfileResponse;
+import com.logistics.scm.oms.order.domain.customer.entity.Address;
+import com.logistics.scm.oms.order.domain.customer.entity.Customer;
+import com.logistics.scm.oms.order.domain.customer.exception.CustomerNotFoundException;
+import com.logistics.scm.oms.order.domain.customer.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 고객 서비스 구현체
+ * 
+ * 고객 프로필은 CustomerProfileCache에서 조회하고, 변경 시 트랜잭션 커밋 후 변경된 프로필로 캐시를 교체 (write-through)
+ * - 변경 전/롤백 시에는 해당 프로필을 제거만 하므로 커밋되지 않은 값이 노출되지 않음 (다음 조회 시 DB에서 재적재)
+ * - 다른 인스턴스의 캐시는 커밋 후 Redis Pub/Sub으로 무효화 (발행 실패 시 expire-after-write 이내 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerServiceImpl implements CustomerService {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerProfileCache customerProfileCache;
+    private final CustomerProfileEvictionChannel customerProfileEvictionChannel;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerProfileResponse loadCustomerProfile(UUID customerId) {
+        CustomerProfileResponse profile = customerProfileCache.get(customerId, id ->
+                customerRepository.findWithAddressesById(id)
+                        .map(CustomerProfileResponse::from)
+                        .orElse(null));
+        if (profile == null) {
+            throw new CustomerNotFoundException(customerId);
+        }
+        return profile;
+    }
+
+    @Override
+    @Transactional
+    public CustomerProfileResponse updateContactInfo(UUID customerId, String email, String phoneNumber) {
+        Customer customer = loadCustomerWithAddresses(customerId);
+        customer.updateContactInfo(email, phoneNumber);
+
+        log.info("고객 연락처 변경: customerId={}", customerId);
+        return refreshAfterCommit(customer);
+    }
+
+    @Override
+    @Transactional
+    public CustomerProfileResponse addAddress(UUID customerId, Address address) {
+        Customer customer = loadCustomerWithAddresses(customerId);
+
+        if (Boolean.TRUE.equals(address.getIsDefault())) {
+            customer.getAddresses().stream()
+                    .filter(existing -> existing.getAddressType() == address.getAddressType())
+                    .forEach(Address::unsetAsDefault);
+        }
+        customer.addAddress(address);
+        customerRepository.save(customer);
+
+        log.info("고객 주소 추가: customerId={}, addressType={}, default={}",
+                customerId, address.getAddressType(), address.getIsDefault());
+        return refreshAfterCommit(customer);
+    }
+
+    private Customer loadCustomerWithAddresses(UUID customerId) {
+        return customerRepository.findWithAddressesById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+    /**
+     * 변경된 프로필을 커밋 후 캐시에 반영하고 다른 인스턴스에 무효화 발행
+     * 커밋 전 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 전에도 제거, 롤백 시 다시 제거
+     */
+    private CustomerProfileResponse refreshAfterCommit(Customer customer) {
+        CustomerProfileResponse profile = CustomerProfileResponse.from(customer);
+        customerProfileCache.evict(profile.getCustomerId());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                customerProfileCache.put(profile);
+                customerProfileEvictionChannel.publish(profile.getCustomerId());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    customerProfileCache.evict(profile.getCustomerId());
+                }
+            }
+        });
+        return profile;
+    }
+}
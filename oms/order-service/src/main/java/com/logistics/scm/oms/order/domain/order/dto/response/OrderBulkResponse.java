@@ -0,0 +1,80 @@
+package com.logistics.scm.oms.order.domain.order.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 주문 등록 결과 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "대량 주문 등록 결과")
+public class OrderBulkResponse {
+
+    @Schema(description = "요청 건수", example = "1000")
+    private int totalCount;
+
+    @Schema(description = "성공 건수", example = "998")
+    private int successCount;
+
+    @Schema(description = "실패 건수", example = "2")
+    private int failureCount;
+
+    @Schema(description = "주문별 처리 결과 (요청 순서)")
+    private List<Result> results;
+
+    /**
+     * 주문별 처리 결과
+     */
+    @Getter
+    @Builder
+    @Schema(description = "주문별 처리 결과")
+    public static class Result {
+
+        @Schema(description = "요청 내 순번 (0부터)", example = "0")
+        private int index;
+
+        @Schema(description = "성공 여부", example = "true")
+        private boolean success;
+
+        @Schema(description = "주문 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+        private UUID orderId;
+
+        @Schema(description = "주문 번호", example = "ORD-20260205-0000123456789012345")
+        private String orderNumber;
+
+        @Schema(description = "실패 사유", example = "items: 주문 항목은 최소 1개 이상이어야 합니다")
+        private String errorMessage;
+
+        public static Result success(int index, UUID orderId, String orderNumber) {
+            return Result.builder()
+                    .index(index)
+                    .success(true)
+                    .orderId(orderId)
+                    .orderNumber(orderNumber)
+                    .build();
+        }
+
+        public static Result failure(int index, String errorMessage) {
+            return Result.builder()
+                    .index(index)
+                    .success(false)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+
+    public static OrderBulkResponse of(List<Result> results) {
+        int successCount = (int) results.stream().filter(Result::isSuccess).count();
+        return OrderBulkResponse.builder()
+                .totalCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.logistics.scm.oms.order.domain.order.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.order.common.BaseEntity;
+import com.logistics.scm.oms.order.domain.archive.dto.OrderArchiveSnapshot;
 import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -39,11 +41,11 @@ public class Order extends BaseEntity {
 
     @Schema(description = "주문 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "order_id", columnDefinition = "uuid")
     private UUID orderId;
 
-    @Schema(description = "주문 번호", example = "ORD-2026-01-0000000000001", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "주문 번호", example = "ORD-20260128-0000123456789012345", requiredMode = Schema.RequiredMode.REQUIRED)
     @Column(name = "order_number", nullable = false, unique = true, length = 50)
     private String orderNumber;
 
@@ -128,10 +130,7 @@ public class Order extends BaseEntity {
         order.setCustomerId(request.getCustomerId());
         order.setOrderStatus(OrderStatus.CREATED);
         order.setOrderDate(LocalDateTime.now());
-
-        // 주문번호 생성 (형식: ORD-YYYYMMDD-NNNN)
-        String orderNumber = generateOrderNumber();
-        order.setOrderNumber(orderNumber);
+        // 주문번호는 OrderService에서 NumberGenerator로 부여
 
         // 주문 항목 추가
         List<OrderItem> items = request.getItems().stream()
@@ -157,14 +156,33 @@ public class Order extends BaseEntity {
     }
 
     /**
-     * 주문번호 생성
-     * 형식: ORD-YYYYMMDD-일련번호
+     * 보관 주문 스냅샷을 Order Entity로 복원
+     * 영속 상태가 아닌 조회 전용 객체이므로 저장/변경에 사용하지 않음
      */
-    private static String generateOrderNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        String dateStr = String.format("%04d%02d%02d",
-                now.getYear(), now.getMonthValue(), now.getDayOfMonth());
-        String sequence = String.format("%04d", (int) (Math.random() * 10000));
-        return String.format("ORD-%s-%s", dateStr, sequence);
+    public static Order restore(OrderArchiveSnapshot snapshot) {
+        Order order = new Order();
+        order.setOrderId(snapshot.getOrderId());
+        order.setOrderNumber(snapshot.getOrderNumber());
+        order.setCustomerId(snapshot.getCustomerId());
+        order.setOrderStatus(snapshot.getOrderStatus());
+        order.setTotalAmount(snapshot.getTotalAmount());
+        order.setOrderDate(snapshot.getOrderDate());
+        order.setCreatedAt(snapshot.getCreatedAt());
+        order.setUpdatedAt(snapshot.getUpdatedAt());
+        order.setCreatedBy(snapshot.getCreatedBy());
+        order.setUpdatedBy(snapshot.getUpdatedBy());
+
+        snapshot.getItems().forEach(archived -> {
+            OrderItem item = new OrderItem();
+            item.setOrderItemId(archived.getOrderItemId());
+            item.setProductCode(archived.getProductCode());
+            item.setProductName(archived.getProductName());
+            item.setQuantity(archived.getQuantity());
+            item.setUnitPrice(archived.getUnitPrice());
+            item.setTotalPrice(archived.getTotalPrice());
+            order.addOrderItem(item);
+        });
+
+        return order;
     }
 }
@@ -1,5 +1,6 @@
 package com.logistics.scm.oms.order.domain.order.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.logistics.scm.oms.order.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -29,7 +30,7 @@ import java.util.UUID;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "order_item_id", columnDefinition = "uuid")
     private UUID orderItemId;
 
@@ -1,9 +1,21 @@
 package com.logistics.scm.oms.order.domain.order.repository;
 
 import com.logistics.scm.oms.order.domain.order.entity.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +32,65 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
      * @return 주문 정보
      */
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    /**
+     * 주문 조회 (주문 항목 포함)
+     * 주문 상세 응답/취소 이벤트처럼 주문 항목이 필요한 경로에서 사용
+     * EntityGraph로 주문 항목을 LEFT JOIN 한 번에 로딩하여 지연 로딩 추가 쿼리와
+     * 트랜잭션 밖(open-in-view 비활성화) LazyInitializationException을 방지
+     *
+     * @param orderId 주문 ID
+     * @return 주문 정보 (주문 항목 초기화됨)
+     */
+    @EntityGraph(attributePaths = "orderItems")
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findWithItemsById(@Param("orderId") UUID orderId);
+
+    /**
+     * 주문 조회 (행 잠금)
+     * 재고 이벤트 처리, 사용자 취소, 타임아웃 보상이 같은 주문 상태를 동시에 바꾸지 않도록 잠금
+     * 잠금 순서는 항상 주문 → Saga (교착 방지), 주문 항목은 필요 시 지연 로딩
+     *
+     * @param orderId 주문 ID
+     * @return 주문 정보
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findByIdForUpdate(@Param("orderId") UUID orderId);
+
+    /**
+     * 보관 대상 주문 조회 (행 잠금, 다른 인스턴스가 잠근 행은 건너뜀)
+     * 주문 항목은 default_batch_fetch_size로 IN 절 일괄 로딩
+     *
+     * @param statuses 보관 대상 상태
+     * @param cutoff 기준 주문 일시 (이전 주문만)
+     * @param pageable 배치 크기
+     * @return 보관 대상 주문
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM Order o WHERE o.orderStatus IN :statuses AND o.orderDate < :cutoff")
+    List<Order> findArchivableForUpdate(@Param("statuses") Collection<Order.OrderStatus> statuses,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        Pageable pageable);
+
+    /**
+     * 주문 항목 일괄 삭제 (보관 처리)
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 삭제 건수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OrderItem i WHERE i.order.orderId IN :orderIds")
+    int deleteItemsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    /**
+     * 주문 일괄 삭제 (보관 처리, 주문 항목 먼저 삭제)
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 삭제 건수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Order o WHERE o.orderId IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
 }
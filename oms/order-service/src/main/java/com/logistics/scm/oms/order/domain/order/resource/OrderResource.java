@@ -1,14 +1,29 @@
 package com.logistics.scm.oms.order.domain.order.resource;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.logistics.scm.oms.order.common.dto.ApiResponse;
 import com.logistics.scm.oms.order.common.dto.ErrorResponse;
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import com.logistics.scm.oms.order.common.idempotency.IdempotencyFilter;
+import com.logistics.scm.oms.order.common.exception.InvalidInputException;
+import com.logistics.scm.oms.order.domain.acceptance.dto.response.OrderAcceptanceResponse;
+import com.logistics.scm.oms.order.domain.acceptance.service.OrderAcceptanceService;
 import com.logistics.scm.oms.order.domain.order.dto.request.OrderCancelRequest;
 import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.dto.response.OrderBulkResponse;
 import com.logistics.scm.oms.order.domain.order.dto.response.OrderResponse;
 import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.order.service.OrderBulkService;
 import com.logistics.scm.oms.order.domain.order.service.OrderService;
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummaryCursor;
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummarySearchCondition;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryPageResponse;
+import com.logistics.scm.oms.order.domain.summary.service.OrderSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -16,10 +31,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,6 +60,60 @@ import java.util.UUID;
 public class OrderResource {
 
     private final OrderService orderService;
+    private final OrderBulkService orderBulkService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderAcceptanceService orderAcceptanceService;
+    private final ObjectMapper objectMapper;
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * 주문 목록 조회 (주문 요약 조회 모델, 키셋 페이지네이션)
+     * GET /api/v1/orders
+     */
+    @Operation(
+        summary = "주문 목록 조회",
+        description = "고객 ID / 주문 상태 / 주문 일시 조건으로 주문 요약 목록을 주문 일시 내림차순으로 조회합니다. "
+                + "다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = OrderSummaryPageResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 조건 또는 커서",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<OrderSummaryPageResponse>> search(
+            @Parameter(description = "고객 ID (UUID)")
+            @RequestParam(required = false) UUID customerId,
+            @Parameter(description = "주문 상태", example = "CREATED")
+            @RequestParam(required = false) Order.OrderStatus status,
+            @Parameter(description = "주문 일시 시작 (포함)", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "주문 일시 종료 (미포함)", example = "2026-03-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        OrderSummarySearchCondition condition = OrderSummarySearchCondition.builder()
+                .customerId(customerId)
+                .status(status)
+                .from(from)
+                .to(to)
+                .cursor(OrderSummaryCursor.decode(cursor))
+                .build();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(orderSummaryService.search(condition, size))
+        );
+    }
 
     /**
      * 특정 주문 조회
@@ -91,6 +169,9 @@ public class OrderResource {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
+    @Parameter(name = IdempotencyFilter.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 중복 처리 방지 키 (같은 키의 재요청은 최초 응답을 그대로 반환)",
+            example = "0f8fad5b-d9cb-469f-a165-70867728950e")
     @PostMapping
     public ResponseEntity<ApiResponse<OrderResponse>> create(
             @Parameter(description = "주문 생성 요청", required = true)
@@ -113,6 +194,89 @@ public class OrderResource {
                 ));
     }
 
+    /**
+     * 주문 비동기 접수
+     * POST /api/v1/orders/async
+     */
+    @Operation(
+        summary = "주문 비동기 접수",
+        description = "주문을 접수하고 즉시 202를 반환합니다. 주문 생성과 재고 예약 결과는 "
+                + "접수 상태 조회 또는 SSE 스트림(/api/v1/orders/acceptances/{acceptanceId}/stream)으로 확인합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202",
+            description = "접수 성공",
+            content = @Content(schema = @Schema(implementation = OrderAcceptanceResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @Parameter(name = IdempotencyFilter.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 중복 처리 방지 키 (같은 키의 재요청은 최초 응답을 그대로 반환)",
+            example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponse<OrderAcceptanceResponse>> accept(
+            @Parameter(description = "주문 생성 요청", required = true)
+            @Valid @RequestBody OrderCreateRequest request) {
+        OrderAcceptanceResponse response = orderAcceptanceService.accept(request);
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/orders/acceptances/" + response.getAcceptanceId()))
+                .body(ApiResponse.success(
+                        response, "주문이 접수되었습니다."
+                ));
+    }
+
+    /**
+     * 주문 접수 상태 조회
+     * GET /api/v1/orders/acceptances/{acceptanceId}
+     */
+    @Operation(
+        summary = "주문 접수 상태 조회",
+        description = "비동기 접수 주문의 현재 상태(ACCEPTED → CREATED → CONFIRMED/CANCELLED, FAILED)를 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = OrderAcceptanceResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "접수 내역 없음 (만료 포함)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/acceptances/{acceptanceId}")
+    public ResponseEntity<ApiResponse<OrderAcceptanceResponse>> loadAcceptance(
+            @Parameter(description = "접수 ID", required = true)
+            @PathVariable String acceptanceId) {
+        return ResponseEntity.ok(
+                ApiResponse.success(orderAcceptanceService.loadAcceptance(acceptanceId))
+        );
+    }
+
+    /**
+     * 주문 접수 상태 스트림 (Server-Sent Events)
+     * GET /api/v1/orders/acceptances/{acceptanceId}/stream
+     */
+    @Operation(
+        summary = "주문 접수 상태 스트림",
+        description = "비동기 접수 주문의 상태 변경을 SSE(status 이벤트)로 전달합니다. "
+                + "구독 시 현재 상태를 먼저 전달하고, 최종 상태(CONFIRMED/CANCELLED/FAILED) 전달 후 연결을 종료합니다."
+    )
+    @GetMapping(value = "/acceptances/{acceptanceId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAcceptance(
+            @Parameter(description = "접수 ID", required = true)
+            @PathVariable String acceptanceId) {
+        return orderAcceptanceService.subscribe(acceptanceId);
+    }
+
     /**
      * 주문 취소 (사용자 요청)
      * DELETE /api/v1/orders/{id}
@@ -155,4 +319,83 @@ public class OrderResource {
                 )
         );
     }
+
+    /**
+     * 대량 주문 등록 (JSON 배열)
+     * POST /api/v1/orders/bulk
+     */
+    @Operation(
+        summary = "대량 주문 등록",
+        description = "JSON 배열(application/json) 또는 NDJSON(application/x-ndjson)으로 여러 주문을 한 번에 등록합니다. "
+                + "주문별 검증/저장 결과를 요청 순서대로 반환하며, 일부 주문이 실패해도 나머지 주문은 등록됩니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "처리 완료 (주문별 성공/실패는 results 참조)",
+            content = @Content(schema = @Schema(implementation = OrderBulkResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "요청 형식 오류 또는 최대 건수 초과",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @Parameter(name = IdempotencyFilter.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 중복 처리 방지 키 (같은 키의 재요청은 최초 응답을 그대로 반환)",
+            example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "주문 생성 요청 목록", required = true,
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = OrderCreateRequest.class))))
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<OrderBulkResponse>> createBulk(InputStream body) {
+        List<OrderCreateRequest> requests = readBulkRequests(body);
+        log.info("대량 주문 등록 요청 (JSON): count={}", requests.size());
+
+        return bulkResponse(orderBulkService.createOrders(requests));
+    }
+
+    /**
+     * 대량 주문 등록 (NDJSON, 한 줄에 주문 1건)
+     * POST /api/v1/orders/bulk
+     */
+    @Operation(hidden = true)
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<OrderBulkResponse>> createBulkNdjson(InputStream body) {
+        List<OrderCreateRequest> requests = readBulkRequests(body);
+        log.info("대량 주문 등록 요청 (NDJSON): count={}", requests.size());
+
+        return bulkResponse(orderBulkService.createOrders(requests));
+    }
+
+    /**
+     * 대량 주문 요청 본문을 한 건씩 읽어 목록으로 변환 (JSON 배열은 요소 단위, NDJSON은 줄 단위)
+     * 최대 건수를 넘는 순간 나머지 본문을 읽지 않고 거부
+     */
+    private List<OrderCreateRequest> readBulkRequests(InputStream body) {
+        int maxSize = orderBulkService.getMaxSize();
+        List<OrderCreateRequest> requests = new ArrayList<>();
+        try (MappingIterator<OrderCreateRequest> iterator =
+                     objectMapper.readerFor(OrderCreateRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                if (requests.size() >= maxSize) {
+                    log.warn("대량 주문 등록 최대 건수 초과: maxSize={}", maxSize);
+                    throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE);
+                }
+                requests.add(iterator.nextValue());
+            }
+        } catch (IOException e) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+        return requests;
+    }
+
+    private ResponseEntity<ApiResponse<OrderBulkResponse>> bulkResponse(OrderBulkResponse response) {
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        response, String.format("대량 주문 등록 완료 (성공 %d건, 실패 %d건)",
+                                response.getSuccessCount(), response.getFailureCount())
+                )
+        );
+    }
 }
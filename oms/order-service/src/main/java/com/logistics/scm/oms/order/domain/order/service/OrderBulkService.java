@@ -0,0 +1,29 @@
+package com.logistics.scm.oms.order.domain.order.service;
+
+import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.dto.response.OrderBulkResponse;
+
+import java.util.List;
+
+/**
+ * 대량 주문 등록 서비스 인터페이스
+ */
+public interface OrderBulkService {
+
+    /**
+     * 대량 주문 등록
+     * 요청을 병렬 검증한 뒤 청크 단위 트랜잭션으로 배치 저장하고, 주문별 처리 결과를 요청 순서대로 반환
+     *
+     * @param requests 주문 생성 요청 목록
+     * @return 주문별 처리 결과
+     */
+    OrderBulkResponse createOrders(List<OrderCreateRequest> requests);
+
+    /**
+     * 요청 1건당 최대 주문 수 (order.bulk.max-size)
+     * 요청 본문을 읽는 중 이 값을 넘으면 나머지를 읽지 않고 거부
+     *
+     * @return 최대 주문 수
+     */
+    int getMaxSize();
+}
@@ -0,0 +1,138 @@
+package com.logistics.scm.oms.order.domain.order.service;
+
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import com.logistics.scm.oms.order.common.exception.InvalidInputException;
+import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.dto.response.OrderBulkResponse;
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 대량 주문 등록 서비스 구현체
+ * 
+ * - 검증: 요청 간 의존성이 없으므로 parallelStream으로 병렬 수행
+ * - 저장: chunk-size 건씩 하나의 트랜잭션으로 묶어 주문/주문 항목/Outbox/Saga를 JDBC 배치 INSERT
+ * - 청크 저장 실패 시 해당 청크만 주문 단위로 재시도하여 실패 주문을 격리 (다른 청크에는 영향 없음)
+ */
+@Slf4j
+@Service
+public class OrderBulkServiceImpl implements OrderBulkService {
+
+    private final OrderService orderService;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxSize;
+
+    public OrderBulkServiceImpl(OrderService orderService,
+                                Validator validator,
+                                @Value("${order.bulk.chunk-size:200}") int chunkSize,
+                                @Value("${order.bulk.max-size:10000}") int maxSize) {
+        this.orderService = orderService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public OrderBulkResponse createOrders(List<OrderCreateRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxSize) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        OrderBulkResponse.Result[] results = new OrderBulkResponse.Result[requests.size()];
+
+        // 1. 병렬 검증 (검증 실패 건은 바로 결과 기록)
+        List<Integer> validIndexes = IntStream.range(0, requests.size())
+                .parallel()
+                .filter(index -> {
+                    String error = validate(requests.get(index));
+                    if (error != null) {
+                        results[index] = OrderBulkResponse.Result.failure(index, error);
+                        return false;
+                    }
+                    return true;
+                })
+                .boxed()
+                .toList();
+
+        // 2. 청크 단위 배치 저장
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            saveChunk(requests, chunk, results);
+        }
+
+        OrderBulkResponse response = OrderBulkResponse.of(List.of(results));
+        log.info("대량 주문 등록 완료: total={}, success={}, failure={}, elapsedMs={}",
+                response.getTotalCount(), response.getSuccessCount(), response.getFailureCount(),
+                System.currentTimeMillis() - startedAt);
+
+        return response;
+    }
+
+    /**
+     * 청크 저장 (실패 시 주문 단위로 재시도)
+     */
+    private void saveChunk(List<OrderCreateRequest> requests, List<Integer> chunk,
+                           OrderBulkResponse.Result[] results) {
+        try {
+            List<Order> orders = chunk.stream()
+                    .map(index -> Order.from(requests.get(index)))
+                    .toList();
+            List<Order> savedOrders = orderService.createOrders(orders);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Order saved = savedOrders.get(i);
+                results[chunk.get(i)] = OrderBulkResponse.Result.success(
+                        chunk.get(i), saved.getOrderId(), saved.getOrderNumber());
+            }
+        } catch (Exception e) {
+            log.warn("주문 청크 저장 실패, 주문 단위로 재시도: chunkSize={}, error={}", chunk.size(), e.getMessage());
+
+            // 롤백된 엔티티는 ID/주문번호가 할당된 상태이므로 요청에서 새로 변환
+            for (Integer index : chunk) {
+                try {
+                    Order saved = orderService.createOrder(Order.from(requests.get(index)));
+                    results[index] = OrderBulkResponse.Result.success(
+                            index, saved.getOrderId(), saved.getOrderNumber());
+                } catch (Exception ex) {
+                    log.warn("주문 저장 실패: index={}, error={}", index, ex.getMessage());
+                    results[index] = OrderBulkResponse.Result.failure(index, ErrorCode.ORDER_CREATE_FAILED.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Bean Validation 수행
+     *
+     * @return 검증 실패 메시지 (성공 시 null)
+     */
+    private String validate(OrderCreateRequest request) {
+        if (request == null) {
+            return ErrorCode.INVALID_INPUT_VALUE.getMessage();
+        }
+        Set<ConstraintViolation<OrderCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -2,6 +2,7 @@ package com.logistics.scm.oms.order.domain.order.service;
 
 import com.logistics.scm.oms.order.domain.order.entity.Order;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,6 +19,15 @@ public interface OrderService {
      */
     Order createOrder(Order order);
 
+    /**
+     * 주문 일괄 생성
+     * 주문/주문 항목/Outbox 이벤트를 하나의 트랜잭션에서 JDBC 배치로 저장
+     *
+     * @param orders 주문 목록
+     * @return 생성된 주문 목록 (입력 순서 유지)
+     */
+    List<Order> createOrders(List<Order> orders);
+
     /**
      * 주문 확정
      * 재고 예약 성공 시 주문 상태를 CONFIRMED로 업데이트
@@ -47,8 +57,17 @@ public interface OrderService {
      */
     Order cancelOrderByInventoryFailure(UUID orderId, String reason);
 
+    /**
+     * 주문 취소 (Saga 타임아웃)
+     * 재고 예약 응답 기한 내 결과 이벤트가 도착하지 않은 주문을 취소하고 OrderCancelledEvent를 발행 (보상 트랜잭션)
+     *
+     * @param orderId 주문 ID
+     */
+    void compensateTimedOutOrder(UUID orderId);
+
     /**
      * 주문 조회
+     * 보관된 주문(order_archive_tb)도 조회 (조회 전용 객체로 복원)
      *
      * @param orderId 주문 ID
      * @return 주문 정보
@@ -1,22 +1,34 @@
 package com.logistics.scm.oms.order.domain.order.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.oms.order.domain.archive.service.OrderArchiveService;
 import com.logistics.scm.oms.order.domain.order.entity.Order;
 import com.logistics.scm.oms.order.domain.order.entity.OrderItem;
 import com.logistics.scm.oms.order.domain.order.exception.InvalidOrderStatusException;
 import com.logistics.scm.oms.order.domain.order.exception.OrderNotFoundException;
 import com.logistics.scm.oms.order.event.order.OrderCancelledEvent;
 import com.logistics.scm.oms.order.event.order.OrderCreatedEvent;
+import com.logistics.scm.oms.order.event.order.OrderStatusChangedEvent;
 import com.logistics.scm.oms.order.domain.order.repository.OrderRepository;
-import com.logistics.scm.oms.order.event.outbox.service.OutboxService;
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSagaStatus;
+import com.logistics.scm.oms.order.domain.saga.service.OrderSagaService;
+import com.logistics.scm.identifier.number.NumberGenerator;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
+import com.logistics.scm.messaging.trace.TraceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +37,8 @@ import java.util.stream.Collectors;
  * Outbox Pattern 적용:
  * - 비즈니스 데이터(Order)와 이벤트(Outbox)를 동일 트랜잭션으로 저장
  * - Kafka 발행은 별도 Scheduler가 Outbox 테이블을 폴링하여 처리
+ * 
+ * 주문 생성/상태 변경 시 ApplicationEvent를 발행하여 주문 요약 조회 모델(order_summary_tb)을 같은 트랜잭션에서 갱신
  */
 @Slf4j
 @Service
@@ -33,11 +47,25 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final OutboxService outboxService;
+    private final OrderSagaService orderSagaService;
+    private final OrderArchiveService orderArchiveService;
+    private final NumberGenerator numberGenerator;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String ORDER_NUMBER_PREFIX = "ORD";
+    private static final String SAGA_TIMEOUT_REASON = "재고 예약 응답 기한 초과";
+
+    /** outcome(confirmed, cancelled, timed_out)별 order.saga.duration 타이머 */
+    private final Map<String, Timer> sagaDurationTimers = new ConcurrentHashMap<>();
 
     @Override
     @Transactional
     public Order createOrder(Order order) {
+        if (order.getOrderNumber() == null) {
+            order.setOrderNumber(numberGenerator.next(ORDER_NUMBER_PREFIX));
+        }
         log.info("주문 생성 시작: orderNumber={}", order.getOrderNumber());
 
         // 1. 주문 저장
@@ -45,29 +73,10 @@ public class OrderServiceImpl implements OrderService {
         Order savedOrder = orderRepository.save(order);
 
         // 2. OrderCreatedEvent를 Outbox 테이블에 저장
-        OrderCreatedEvent event = OrderCreatedEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .orderId(savedOrder.getOrderId().toString())
-                .orderNumber(savedOrder.getOrderNumber())
-                .customerId(savedOrder.getCustomerId().toString())
-                .items(convertToOrderItemEvents(savedOrder.getOrderItems()))
-                .totalAmount(savedOrder.getTotalAmount())
-                .createdAt(savedOrder.getOrderDate())
-                .build();
+        saveOrderCreatedEvent(savedOrder);
 
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            outboxService.saveOutbox(
-                    "Order",
-                    savedOrder.getOrderId().toString(),
-                    "OrderCreatedEvent",
-                    payload
-            );
-            log.info("주문 생성 이벤트 Outbox 저장 완료: orderId={}", savedOrder.getOrderId());
-        } catch (Exception e) {
-            log.error("주문 생성 이벤트 Outbox 저장 실패: orderId={}", savedOrder.getOrderId(), e);
-            throw new RuntimeException("이벤트 저장 실패", e);
-        }
+        // 3. 재고 예약 응답 대기 Saga 시작 (기한 초과 시 보상 트랜잭션)
+        orderSagaService.start(savedOrder.getOrderId());
 
         log.info("주문 생성 완료: orderId={}, status={}", 
                 savedOrder.getOrderId(), savedOrder.getOrderStatus());
@@ -75,20 +84,59 @@ public class OrderServiceImpl implements OrderService {
         return savedOrder;
     }
 
+    @Override
+    @Transactional
+    public List<Order> createOrders(List<Order> orders) {
+        LocalDateTime orderDate = LocalDateTime.now();
+        for (Order order : orders) {
+            if (order.getOrderNumber() == null) {
+                order.setOrderNumber(numberGenerator.next(ORDER_NUMBER_PREFIX));
+            }
+            order.setOrderDate(orderDate);
+        }
+
+        // 1. 주문/주문 항목 저장 (UUIDv7은 INSERT 전 할당 → hibernate.jdbc.batch_size 단위 배치 INSERT)
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+
+        // 2. OrderCreatedEvent를 Outbox 테이블에 저장 (flush 시 배치 INSERT)
+        savedOrders.forEach(this::saveOrderCreatedEvent);
+
+        // 3. 재고 예약 응답 대기 Saga 일괄 시작
+        orderSagaService.startAll(savedOrders.stream().map(Order::getOrderId).toList());
+
+        log.info("주문 일괄 생성 완료: count={}", savedOrders.size());
+
+        return savedOrders;
+    }
+
     @Override
     @Transactional
     public Order confirmOrder(UUID orderId) {
         log.info("주문 확정 시작: orderId={}", orderId);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
+        // 타임아웃 보상으로 이미 취소된 주문이면 무시 (재고는 OrderCancelledEvent로 해제됨)
+        if (order.getOrderStatus() != Order.OrderStatus.CREATED) {
+            log.warn("확정 대상이 아닌 주문 상태, 처리 생략: orderId={}, status={}", orderId, order.getOrderStatus());
+            return order;
+        }
+
+        // Saga가 이미 종료(보상 처리 실패 등)되었으면 상태를 바꾸지 않음
+        if (!orderSagaService.complete(orderId, OrderSagaStatus.CONFIRMED)) {
+            log.warn("종료된 주문 Saga, 확정 생략: orderId={}", orderId);
+            return order;
+        }
+
         // 주문 상태를 CONFIRMED로 변경
         order.confirm();
         Order confirmedOrder = orderRepository.save(order);
+        publishStatusChanged(confirmedOrder);
 
         log.info("주문 확정 완료: orderId={}, status={}", 
                 confirmedOrder.getOrderId(), confirmedOrder.getOrderStatus());
+        recordSagaDuration(confirmedOrder, "confirmed");
 
         return confirmedOrder;
     }
@@ -98,7 +146,8 @@ public class OrderServiceImpl implements OrderService {
     public Order cancelOrder(UUID orderId, String cancelReason) {
         log.info("주문 취소 시작 (사용자 요청): orderId={}, reason={}", orderId, cancelReason);
 
-        Order order = orderRepository.findById(orderId)
+        // 행 잠금 후 상태 확인 (타임아웃 보상과 동시에 취소되어 OrderCancelledEvent가 두 번 발행되지 않도록)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         // 주문 취소 가능 여부 확인
@@ -113,29 +162,12 @@ public class OrderServiceImpl implements OrderService {
         order.cancel();
         Order cancelledOrder = orderRepository.save(order);
 
-        // 2. OrderCancelledEvent를 Outbox 테이블에 저장
-        OrderCancelledEvent event = OrderCancelledEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .orderId(cancelledOrder.getOrderId().toString())
-                .orderNumber(cancelledOrder.getOrderNumber())
-                .cancelReason(cancelReason)
-                .items(convertToOrderCancelledItemEvents(cancelledOrder.getOrderItems()))
-                .cancelledAt(LocalDateTime.now())
-                .build();
+        // 확정된 주문은 Saga가 이미 종료되어 있으므로 결과와 무관하게 취소 진행 (중복 취소는 위 상태 확인으로 차단)
+        orderSagaService.complete(orderId, OrderSagaStatus.CANCELLED);
+        publishStatusChanged(cancelledOrder);
 
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            outboxService.saveOutbox(
-                    "Order",
-                    cancelledOrder.getOrderId().toString(),
-                    "OrderCancelledEvent",
-                    payload
-            );
-            log.info("주문 취소 이벤트 Outbox 저장 완료: orderId={}", cancelledOrder.getOrderId());
-        } catch (Exception e) {
-            log.error("주문 취소 이벤트 Outbox 저장 실패: orderId={}", cancelledOrder.getOrderId(), e);
-            throw new RuntimeException("이벤트 저장 실패", e);
-        }
+        // 2. OrderCancelledEvent를 Outbox 테이블에 저장
+        saveOrderCancelledEvent(cancelledOrder, cancelReason);
 
         log.info("주문 취소 완료: orderId={}, status={}", 
                 cancelledOrder.getOrderId(), cancelledOrder.getOrderStatus());
@@ -148,28 +180,158 @@ public class OrderServiceImpl implements OrderService {
     public Order cancelOrderByInventoryFailure(UUID orderId, String reason) {
         log.warn("주문 취소 시작 (재고 부족): orderId={}, reason={}", orderId, reason);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
+        if (order.getOrderStatus() == Order.OrderStatus.CANCELLED) {
+            log.warn("이미 취소된 주문, 처리 생략: orderId={}", orderId);
+            return order;
+        }
+
+        // Saga가 이미 종료되었으면 상태를 바꾸지 않음
+        if (!orderSagaService.complete(orderId, OrderSagaStatus.CANCELLED)) {
+            log.warn("종료된 주문 Saga, 취소 생략: orderId={}, status={}", orderId, order.getOrderStatus());
+            return order;
+        }
+
         // 주문 상태를 CANCELLED로 변경
         order.cancel();
         Order cancelledOrder = orderRepository.save(order);
+        publishStatusChanged(cancelledOrder);
 
         log.info("재고 부족으로 주문 취소 완료: orderId={}, status={}", 
                 cancelledOrder.getOrderId(), cancelledOrder.getOrderStatus());
+        recordSagaDuration(cancelledOrder, "cancelled");
 
         // OrderCancelledEvent는 발행하지 않음 (재고는 이미 예약되지 않았으므로)
 
         return cancelledOrder;
     }
 
+    @Override
+    @Transactional
+    public void compensateTimedOutOrder(UUID orderId) {
+        // 주문 → Saga 순서로 잠금 (재고 이벤트 처리/사용자 취소와 같은 순서)
+        Order order = orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+
+        // 그 사이 재고 이벤트로 Saga가 종료되었으면 보상 생략
+        if (!orderSagaService.acquireTimedOut(orderId)) {
+            return;
+        }
+
+        if (order.getOrderStatus() != Order.OrderStatus.CREATED) {
+            log.warn("보상 대상이 아닌 주문 상태, 처리 생략: orderId={}, status={}", orderId, order.getOrderStatus());
+            return;
+        }
+
+        log.warn("재고 예약 응답 기한 초과, 주문 취소 (보상 트랜잭션): orderId={}", orderId);
+
+        // 재고가 예약되었으나 응답만 유실된 경우를 대비해 OrderCancelledEvent로 재고 해제 요청
+        order.cancel();
+        Order cancelledOrder = orderRepository.save(order);
+        publishStatusChanged(cancelledOrder);
+        saveOrderCancelledEvent(cancelledOrder, SAGA_TIMEOUT_REASON);
+        recordSagaDuration(cancelledOrder, "timed_out");
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Order loadOrderById(UUID orderId) {
-        return orderRepository.findById(orderId)
+        // 보관 기간이 지나 order_archive_tb로 옮겨진 주문은 스냅샷에서 복원
+        return orderRepository.findWithItemsById(orderId)
+                .or(() -> orderArchiveService.loadArchivedOrder(orderId))
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
+    /**
+     * OrderCreatedEvent를 Outbox 테이블에 저장
+     */
+    private void saveOrderCreatedEvent(Order savedOrder) {
+        OrderCreatedEvent event = OrderCreatedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .orderId(savedOrder.getOrderId().toString())
+                .orderNumber(savedOrder.getOrderNumber())
+                .customerId(savedOrder.getCustomerId().toString())
+                .items(convertToOrderItemEvents(savedOrder.getOrderItems()))
+                .totalAmount(savedOrder.getTotalAmount())
+                .createdAt(savedOrder.getOrderDate())
+                .build();
+
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxService.saveOutbox(
+                    "Order",
+                    savedOrder.getOrderId().toString(),
+                    "OrderCreatedEvent",
+                    payload
+            );
+            log.info("주문 생성 이벤트 Outbox 저장 완료: orderId={}", savedOrder.getOrderId());
+        } catch (Exception e) {
+            log.error("주문 생성 이벤트 Outbox 저장 실패: orderId={}", savedOrder.getOrderId(), e);
+            throw new RuntimeException("이벤트 저장 실패", e);
+        }
+
+        // 주문 요약 조회 모델 반영
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 주문 상태 변경 이벤트 발행 (주문 요약 조회 모델 반영)
+     */
+    private void publishStatusChanged(Order order) {
+        eventPublisher.publishEvent(
+                new OrderStatusChangedEvent(order.getOrderId(), order.getOrderStatus(), LocalDateTime.now()));
+    }
+
+    /**
+     * OrderCancelledEvent를 Outbox 테이블에 저장
+     */
+    private void saveOrderCancelledEvent(Order cancelledOrder, String cancelReason) {
+        OrderCancelledEvent event = OrderCancelledEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .orderId(cancelledOrder.getOrderId().toString())
+                .orderNumber(cancelledOrder.getOrderNumber())
+                .cancelReason(cancelReason)
+                .items(convertToOrderCancelledItemEvents(cancelledOrder.getOrderItems()))
+                .cancelledAt(LocalDateTime.now())
+                .build();
+
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxService.saveOutbox(
+                    "Order",
+                    cancelledOrder.getOrderId().toString(),
+                    "OrderCancelledEvent",
+                    payload
+            );
+            log.info("주문 취소 이벤트 Outbox 저장 완료: orderId={}", cancelledOrder.getOrderId());
+        } catch (Exception e) {
+            log.error("주문 취소 이벤트 Outbox 저장 실패: orderId={}", cancelledOrder.getOrderId(), e);
+            throw new RuntimeException("이벤트 저장 실패", e);
+        }
+    }
+
+    /**
+     * 주문 Saga 전체 소요 시간 기록 (주문 생성 → 재고 예약 결과 반영)
+     * 구간별 소요 시간은 messaging.saga.hop, 주문 단위 상세는 traceId로 로그에서 추적
+     */
+    private void recordSagaDuration(Order order, String outcome) {
+        if (order.getOrderDate() == null) {
+            return;
+        }
+        Duration elapsed = Duration.between(order.getOrderDate(), LocalDateTime.now());
+        sagaDurationTimers.computeIfAbsent(outcome, key -> Timer.builder("order.saga.duration")
+                        .description("주문 생성부터 재고 예약 결과 반영까지 소요 시간")
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsed);
+
+        log.info("주문 Saga 완료: orderId={}, outcome={}, elapsedMs={}, traceId={}",
+                order.getOrderId(), outcome, elapsed.toMillis(), TraceContext.traceIdOf(TraceContext.current()));
+    }
+
     /**
      * OrderItem을 OrderCreatedEvent.OrderItemEvent로 변환
      */
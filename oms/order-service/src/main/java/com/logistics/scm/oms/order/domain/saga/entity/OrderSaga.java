@@ -0,0 +1,154 @@
+package com.logistics.scm.oms.order.domain.saga.entity;
+
+import com.logistics.scm.oms.order.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 Saga Entity
+ * 
+ * 주문 생성 → 재고 예약 결과 수신까지의 진행 상태와 응답 기한을 관리합니다.
+ * 기한 내 재고 이벤트가 도착하지 않으면 스케줄러가 보상 트랜잭션(주문 취소 + OrderCancelledEvent)을 수행합니다.
+ * 
+ * 스케줄러는 (saga_status, deadline_at) 인덱스로 기한이 지난 Saga만 배치 크기만큼 조회하므로
+ * 진행 중인 Saga 수와 무관하게 1회 실행 비용이 일정합니다.
+ * 
+ * PK(orderId)를 직접 할당하므로 Persistable로 신규 여부를 알려 save() 시 merge용 SELECT 없이 INSERT(배치)합니다.
+ */
+@Entity
+@Table(name = "order_saga_tb", indexes = {
+        @Index(name = "idx_order_saga_status_deadline", columnList = "saga_status, deadline_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderSaga extends BaseEntity implements Persistable<UUID> {
+
+    /**
+     * 주문 ID (주문당 Saga 1건)
+     */
+    @Id
+    @Column(name = "order_id", columnDefinition = "uuid")
+    private UUID orderId;
+
+    /**
+     * Saga 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "saga_status", nullable = false, length = 30)
+    private OrderSagaStatus sagaStatus;
+
+    /**
+     * 응답 기한 (보상 처리 재시도 시 다음 시도 시각)
+     */
+    @Column(name = "deadline_at", nullable = false)
+    private LocalDateTime deadlineAt;
+
+    /**
+     * 보상 처리 재시도 횟수
+     */
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 종료 시각
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 신규 생성 여부 (조회/저장 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return this.orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 응답 대기 중인지 확인
+     */
+    public boolean isAwaiting() {
+        return this.sagaStatus == OrderSagaStatus.AWAITING_RESERVATION;
+    }
+
+    /**
+     * 기한 도래 여부
+     */
+    public boolean isDue(LocalDateTime now) {
+        return isAwaiting() && !this.deadlineAt.isAfter(now);
+    }
+
+    /**
+     * Saga 종료
+     *
+     * @param status 종료 상태
+     */
+    public void complete(OrderSagaStatus status) {
+        this.sagaStatus = status;
+        this.completedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 보상 처리 실패 기록 및 다음 시도 시각 설정
+     *
+     * @param errorMessage 오류 메시지
+     * @param nextAttemptAt 다음 시도 시각
+     */
+    public void retryLater(String errorMessage, LocalDateTime nextAttemptAt) {
+        this.retryCount++;
+        this.lastError = errorMessage;
+        this.deadlineAt = nextAttemptAt;
+    }
+
+    /**
+     * 보상 처리 재시도 소진
+     *
+     * @param errorMessage 오류 메시지
+     */
+    public void fail(String errorMessage) {
+        this.sagaStatus = OrderSagaStatus.FAILED;
+        this.lastError = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Saga 시작 정적 팩토리 메서드
+     */
+    public static OrderSaga start(UUID orderId, LocalDateTime deadlineAt) {
+        return OrderSaga.builder()
+                .orderId(orderId)
+                .sagaStatus(OrderSagaStatus.AWAITING_RESERVATION)
+                .deadlineAt(deadlineAt)
+                .retryCount(0)
+                .build();
+    }
+}
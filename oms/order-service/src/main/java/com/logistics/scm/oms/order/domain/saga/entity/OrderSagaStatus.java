@@ -0,0 +1,17 @@
+package com.logistics.scm.oms.order.domain.saga.entity;
+
+/**
+ * 주문 Saga 상태
+ * 
+ * AWAITING_RESERVATION → CONFIRMED   (재고 예약 성공)
+ *                      → CANCELLED   (재고 예약 실패 / 사용자 취소)
+ *                      → COMPENSATED (응답 대기 시간 초과 → OrderCancelledEvent 발행)
+ *                      → FAILED      (보상 처리 재시도 소진, 수동 확인 필요)
+ */
+public enum OrderSagaStatus {
+    AWAITING_RESERVATION,
+    CONFIRMED,
+    CANCELLED,
+    COMPENSATED,
+    FAILED
+}
@@ -0,0 +1,62 @@
+package com.logistics.scm.oms.order.domain.saga.repository;
+
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSaga;
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSagaStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 Saga Repository
+ */
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSaga, UUID> {
+
+    /**
+     * 기한이 지난 Saga의 주문 ID 조회
+     * (saga_status, deadline_at) 인덱스 범위 스캔, 배치 크기만큼만 조회
+     *
+     * @param status 상태
+     * @param now 기준 시각
+     * @param pageable 배치 크기
+     * @return 주문 ID 목록
+     */
+    @Query("SELECT s.orderId FROM OrderSaga s " +
+            "WHERE s.sagaStatus = :status AND s.deadlineAt <= :now " +
+            "ORDER BY s.deadlineAt")
+    List<UUID> findDueOrderIds(@Param("status") OrderSagaStatus status,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    /**
+     * Saga 조회 (행 잠금)
+     * 재고 이벤트 처리와 타임아웃 보상이 동시에 같은 Saga를 종료하지 않도록 잠금
+     *
+     * @param orderId 주문 ID
+     * @return Saga
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSaga s WHERE s.orderId = :orderId")
+    Optional<OrderSaga> findByIdForUpdate(@Param("orderId") UUID orderId);
+
+    /**
+     * Saga 일괄 삭제 (주문 보관 처리)
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM OrderSaga s WHERE s.orderId IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+}
@@ -0,0 +1,56 @@
+package com.logistics.scm.oms.order.domain.saga.scheduler;
+
+import com.logistics.scm.oms.order.domain.order.service.OrderService;
+import com.logistics.scm.oms.order.domain.saga.service.OrderSagaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 Saga 타임아웃 스케줄러
+ * 
+ * 재고 예약 응답 기한이 지난 Saga를 배치 크기만큼 조회하여 보상 트랜잭션을 수행합니다.
+ * 주문별로 개별 트랜잭션에서 처리하므로 한 건의 실패가 배치 전체를 롤백하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OrderSagaTimeoutScheduler {
+
+    private final OrderSagaService orderSagaService;
+    private final OrderService orderService;
+    private final int batchSize;
+
+    public OrderSagaTimeoutScheduler(OrderSagaService orderSagaService,
+                                     OrderService orderService,
+                                     @Value("${order.saga.batch-size:500}") int batchSize) {
+        this.orderSagaService = orderSagaService;
+        this.orderService = orderService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 기한이 지난 Saga 보상 처리
+     */
+    @Scheduled(fixedDelayString = "${order.saga.scan-interval-ms:5000}")
+    public void compensateTimedOutSagas() {
+        List<UUID> dueOrderIds = orderSagaService.findDueOrderIds(batchSize);
+        if (dueOrderIds.isEmpty()) {
+            return;
+        }
+
+        log.info("주문 Saga 타임아웃 처리 시작: {}건", dueOrderIds.size());
+
+        for (UUID orderId : dueOrderIds) {
+            try {
+                orderService.compensateTimedOutOrder(orderId);
+            } catch (Exception e) {
+                log.error("주문 Saga 보상 처리 실패: orderId={}", orderId, e);
+                orderSagaService.recordCompensationFailure(orderId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.logistics.scm.oms.order.domain.saga.service;
+
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSagaStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 Saga 서비스 인터페이스
+ */
+public interface OrderSagaService {
+
+    /**
+     * Saga 시작 (주문 생성 트랜잭션에 참여)
+     *
+     * @param orderId 주문 ID
+     */
+    void start(UUID orderId);
+
+    /**
+     * Saga 일괄 시작 (대량 주문 등록 트랜잭션에 참여)
+     *
+     * @param orderIds 주문 ID 목록
+     */
+    void startAll(List<UUID> orderIds);
+
+    /**
+     * Saga 종료 (재고 예약 결과 반영 / 사용자 취소)
+     * 이미 종료된 Saga면 false 반환
+     * Saga 행이 없는 주문(Saga 도입 이전 주문)은 true를 반환하여 주문 상태 기준으로 진행
+     *
+     * @param orderId 주문 ID
+     * @param status 종료 상태
+     * @return 주문 상태 변경 진행 여부
+     */
+    boolean complete(UUID orderId, OrderSagaStatus status);
+
+    /**
+     * 기한이 지난 Saga의 주문 ID 조회
+     *
+     * @param limit 최대 건수
+     * @return 주문 ID 목록
+     */
+    List<UUID> findDueOrderIds(int limit);
+
+    /**
+     * 기한이 지난 Saga를 잠그고 보상 처리 대상으로 확정
+     * 그 사이 재고 이벤트로 종료되었으면 false 반환
+     *
+     * @param orderId 주문 ID
+     * @return 보상 처리 대상 여부
+     */
+    boolean acquireTimedOut(UUID orderId);
+
+    /**
+     * 보상 처리 실패 기록 (별도 트랜잭션)
+     * 재시도 횟수 소진 시 FAILED로 종료
+     *
+     * @param orderId 주문 ID
+     * @param errorMessage 오류 메시지
+     */
+    void recordCompensationFailure(UUID orderId, String errorMessage);
+
+    /**
+     * Saga 일괄 삭제 (종료된 주문 보관 시)
+     *
+     * @param orderIds 주문 ID 목록
+     */
+    void deleteAll(List<UUID> orderIds);
+}
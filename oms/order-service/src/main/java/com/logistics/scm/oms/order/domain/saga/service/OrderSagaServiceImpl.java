@@ -0,0 +1,118 @@
+package com.logistics.scm.oms.order.domain.saga.service;
+
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSaga;
+import com.logistics.scm.oms.order.domain.saga.entity.OrderSagaStatus;
+import com.logistics.scm.oms.order.domain.saga.repository.OrderSagaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 Saga 서비스 구현체
+ */
+@Slf4j
+@Service
+public class OrderSagaServiceImpl implements OrderSagaService {
+
+    private final OrderSagaRepository orderSagaRepository;
+    private final long reservationTimeoutMs;
+    private final int maxRetries;
+    private final long retryIntervalMs;
+
+    public OrderSagaServiceImpl(OrderSagaRepository orderSagaRepository,
+                                @Value("${order.saga.reservation-timeout-ms:300000}") long reservationTimeoutMs,
+                                @Value("${order.saga.max-retries:3}") int maxRetries,
+                                @Value("${order.saga.retry-interval-ms:30000}") long retryIntervalMs) {
+        this.orderSagaRepository = orderSagaRepository;
+        this.reservationTimeoutMs = reservationTimeoutMs;
+        this.maxRetries = maxRetries;
+        this.retryIntervalMs = retryIntervalMs;
+    }
+
+    @Override
+    @Transactional
+    public void start(UUID orderId) {
+        LocalDateTime deadlineAt = LocalDateTime.now().plusNanos(reservationTimeoutMs * 1_000_000L);
+        orderSagaRepository.save(OrderSaga.start(orderId, deadlineAt));
+        log.debug("주문 Saga 시작: orderId={}, deadlineAt={}", orderId, deadlineAt);
+    }
+
+    @Override
+    @Transactional
+    public void startAll(List<UUID> orderIds) {
+        LocalDateTime deadlineAt = LocalDateTime.now().plusNanos(reservationTimeoutMs * 1_000_000L);
+        orderSagaRepository.saveAll(orderIds.stream()
+                .map(orderId -> OrderSaga.start(orderId, deadlineAt))
+                .toList());
+        log.debug("주문 Saga 일괄 시작: count={}, deadlineAt={}", orderIds.size(), deadlineAt);
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(UUID orderId, OrderSagaStatus status) {
+        Optional<OrderSaga> found = orderSagaRepository.findByIdForUpdate(orderId);
+        if (found.isEmpty()) {
+            // Saga 도입 이전에 생성된 주문은 Saga 행이 없으므로 종료 여부를 주문 상태 확인에 맡김
+            log.info("주문 Saga 없음, 주문 상태 기준으로 진행: orderId={}, status={}", orderId, status);
+            return true;
+        }
+        OrderSaga saga = found.get();
+        if (!saga.isAwaiting()) {
+            return false;
+        }
+        saga.complete(status);
+        log.debug("주문 Saga 종료: orderId={}, status={}", orderId, status);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findDueOrderIds(int limit) {
+        return orderSagaRepository.findDueOrderIds(
+                OrderSagaStatus.AWAITING_RESERVATION, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean acquireTimedOut(UUID orderId) {
+        return orderSagaRepository.findByIdForUpdate(orderId)
+                .filter(saga -> saga.isDue(LocalDateTime.now()))
+                .map(saga -> {
+                    saga.complete(OrderSagaStatus.COMPENSATED);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordCompensationFailure(UUID orderId, String errorMessage) {
+        orderSagaRepository.findByIdForUpdate(orderId)
+                .filter(OrderSaga::isAwaiting)
+                .ifPresent(saga -> {
+                    if (saga.getRetryCount() + 1 >= maxRetries) {
+                        saga.fail(errorMessage);
+                        log.error("주문 Saga 보상 처리 재시도 소진: orderId={}, error={}", orderId, errorMessage);
+                        return;
+                    }
+                    long delayMs = retryIntervalMs << saga.getRetryCount();
+                    saga.retryLater(errorMessage, LocalDateTime.now().plusNanos(delayMs * 1_000_000L));
+                    log.warn("주문 Saga 보상 처리 실패, 재시도 예정: orderId={}, retryCount={}, deadlineAt={}",
+                            orderId, saga.getRetryCount(), saga.getDeadlineAt());
+                });
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(List<UUID> orderIds) {
+        orderSagaRepository.deleteByOrderIdIn(orderIds);
+    }
+}
@@ -0,0 +1,56 @@
+package com.logistics.scm.oms.order.domain.summary.dto.request;
+
+import com.logistics.scm.oms.order.common.exception.ErrorCode;
+import com.logistics.scm.oms.order.common.exception.InvalidInputException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 요약 키셋 페이지네이션 커서
+ * 
+ * 직전 페이지 마지막 행의 (orderDate, orderId)를 Base64URL 문자열로 주고받음
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSummaryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime orderDate;
+    private UUID orderId;
+
+    /**
+     * 커서 문자열로 변환
+     */
+    public String encode() {
+        String raw = orderDate + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (null이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static OrderSummaryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            return new OrderSummaryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    UUID.fromString(raw.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+    }
+}
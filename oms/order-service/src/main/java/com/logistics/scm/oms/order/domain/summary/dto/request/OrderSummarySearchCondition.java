@@ -0,0 +1,42 @@
+package com.logistics.scm.oms.order.domain.summary.dto.request;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 요약 검색 조건
+ * 값이 null인 조건은 적용하지 않음
+ */
+@Getter
+@Builder
+public class OrderSummarySearchCondition {
+
+    /**
+     * 고객 ID
+     */
+    private UUID customerId;
+
+    /**
+     * 주문 상태
+     */
+    private Order.OrderStatus status;
+
+    /**
+     * 주문 일시 시작 (포함)
+     */
+    private LocalDateTime from;
+
+    /**
+     * 주문 일시 종료 (미포함)
+     */
+    private LocalDateTime to;
+
+    /**
+     * 키셋 커서 (첫 페이지면 null)
+     */
+    private OrderSummaryCursor cursor;
+}
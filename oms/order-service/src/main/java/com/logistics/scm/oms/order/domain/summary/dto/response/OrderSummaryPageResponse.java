@@ -0,0 +1,28 @@
+package com.logistics.scm.oms.order.domain.summary.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 요약 키셋 페이지 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "주문 요약 목록 (키셋 페이지)")
+public class OrderSummaryPageResponse {
+
+    @Schema(description = "주문 요약 목록 (주문 일시 내림차순)")
+    private List<OrderSummaryResponse> content;
+
+    @Schema(description = "조회 건수", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (다음 요청의 cursor 파라미터로 전달)", example = "MjAyNi0wMi0wNVQxMDozMDowMHw1NTBl...")
+    private String nextCursor;
+}
@@ -0,0 +1,48 @@
+package com.logistics.scm.oms.order.domain.summary.dto.response;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 요약 응답 DTO
+ * 
+ * OrderSummaryQueryRepository의 JPQL 생성자 Projection 대상 (생성자 인자 순서 변경 시 JPQL도 함께 변경)
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "주문 요약 정보")
+public class OrderSummaryResponse {
+
+    @Schema(description = "주문 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "주문 번호", example = "ORD-20260205-0000123456789012345")
+    private String orderNumber;
+
+    @Schema(description = "고객 ID", example = "c1234567-1234-1234-1234-123456789012")
+    private UUID customerId;
+
+    @Schema(description = "주문 상태", example = "CREATED")
+    private Order.OrderStatus status;
+
+    @Schema(description = "총 금액", example = "150000.00")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "주문 항목 수", example = "3")
+    private Integer itemCount;
+
+    @Schema(description = "총 주문 수량", example = "10")
+    private Integer totalQuantity;
+
+    @Schema(description = "주문 일시", example = "2026-02-05T10:30:00")
+    private LocalDateTime orderDate;
+
+    @Schema(description = "마지막 변경 일시", example = "2026-02-05T10:30:05")
+    private LocalDateTime updatedAt;
+}
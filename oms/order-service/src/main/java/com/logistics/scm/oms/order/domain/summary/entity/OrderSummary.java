@@ -0,0 +1,111 @@
+package com.logistics.scm.oms.order.domain.summary.entity;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 요약 조회 모델 Entity (CQRS Read Model)
+ * 
+ * 주문 목록 조회 전용 비정규화 테이블로, 주문 이벤트(OrderCreatedEvent / OrderStatusChangedEvent)로만 갱신합니다.
+ * 목록 조회 시 ORDER_TB / ORDER_ITEM_TB 조인 및 주문 항목 지연 로딩(N+1) 없이 한 테이블에서 응답합니다.
+ * 
+ * 인덱스는 키셋 페이지네이션 정렬 기준(order_date DESC, order_id DESC)을 포함하는 복합 인덱스로,
+ * 조건 컬럼 + 정렬 컬럼 범위 스캔만으로 페이지를 읽습니다.
+ */
+@Entity
+@Table(name = "order_summary_tb", indexes = {
+        @Index(name = "idx_order_summary_customer_date", columnList = "customer_id, order_date DESC, order_id DESC"),
+        @Index(name = "idx_order_summary_status_date", columnList = "order_status, order_date DESC, order_id DESC"),
+        @Index(name = "idx_order_summary_date", columnList = "order_date DESC, order_id DESC")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderSummary implements Persistable<UUID> {
+
+    /**
+     * 주문 ID (ORDER_TB.order_id)
+     */
+    @Id
+    @Column(name = "order_id", columnDefinition = "uuid")
+    private UUID orderId;
+
+    /**
+     * 주문 번호
+     */
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    /**
+     * 고객 ID
+     */
+    @Column(name = "customer_id", nullable = false, columnDefinition = "uuid")
+    private UUID customerId;
+
+    /**
+     * 주문 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false, length = 20)
+    private Order.OrderStatus orderStatus;
+
+    /**
+     * 총 주문 금액
+     */
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    /**
+     * 주문 항목 수
+     */
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    /**
+     * 총 주문 수량
+     */
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity;
+
+    /**
+     * 주문 일시
+     */
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    /**
+     * 마지막 반영 시각
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 신규 생성 여부 (조회/저장 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return this.orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
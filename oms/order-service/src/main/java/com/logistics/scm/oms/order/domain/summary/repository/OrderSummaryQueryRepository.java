@@ -0,0 +1,22 @@
+package com.logistics.scm.oms.order.domain.summary.repository;
+
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummarySearchCondition;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryResponse;
+
+import java.util.List;
+
+/**
+ * 주문 요약 조회 모델 검색 Repository (조건별 동적 JPQL)
+ */
+public interface OrderSummaryQueryRepository {
+
+    /**
+     * 주문 요약 키셋 페이지 조회
+     * 엔티티를 로딩하지 않고 DTO 생성자 Projection으로 조회
+     *
+     * @param condition 검색 조건 (커서 포함)
+     * @param limit 조회 건수
+     * @return 주문 요약 목록 (order_date DESC, order_id DESC)
+     */
+    List<OrderSummaryResponse> search(OrderSummarySearchCondition condition, int limit);
+}
@@ -0,0 +1,70 @@
+package com.logistics.scm.oms.order.domain.summary.repository;
+
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummarySearchCondition;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 요약 조회 모델 검색 Repository 구현체
+ * 
+ * 조건이 없는 컬럼은 WHERE 절에서 제외하여(":param IS NULL OR ..." 미사용) 조건별 복합 인덱스를 그대로 사용합니다.
+ * OFFSET 대신 마지막 행의 (order_date, order_id)를 커서로 받아 이후 행만 읽으므로 페이지 깊이와 무관하게 비용이 일정합니다.
+ */
+@RequiredArgsConstructor
+public class OrderSummaryQueryRepositoryImpl implements OrderSummaryQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<OrderSummaryResponse> search(OrderSummarySearchCondition condition, int limit) {
+        StringBuilder jpql = new StringBuilder()
+                .append("SELECT new ").append(OrderSummaryResponse.class.getName())
+                .append("(s.orderId, s.orderNumber, s.customerId, s.orderStatus, s.totalAmount, ")
+                .append("s.itemCount, s.totalQuantity, s.orderDate, s.updatedAt) ")
+                .append("FROM OrderSummary s WHERE 1 = 1");
+
+        if (condition.getCustomerId() != null) {
+            jpql.append(" AND s.customerId = :customerId");
+        }
+        if (condition.getStatus() != null) {
+            jpql.append(" AND s.orderStatus = :status");
+        }
+        if (condition.getFrom() != null) {
+            jpql.append(" AND s.orderDate >= :from");
+        }
+        if (condition.getTo() != null) {
+            jpql.append(" AND s.orderDate < :to");
+        }
+        if (condition.getCursor() != null) {
+            jpql.append(" AND (s.orderDate < :cursorDate")
+                    .append(" OR (s.orderDate = :cursorDate AND s.orderId < :cursorId))");
+        }
+        jpql.append(" ORDER BY s.orderDate DESC, s.orderId DESC");
+
+        TypedQuery<OrderSummaryResponse> query =
+                entityManager.createQuery(jpql.toString(), OrderSummaryResponse.class);
+
+        if (condition.getCustomerId() != null) {
+            query.setParameter("customerId", condition.getCustomerId());
+        }
+        if (condition.getStatus() != null) {
+            query.setParameter("status", condition.getStatus());
+        }
+        if (condition.getFrom() != null) {
+            query.setParameter("from", condition.getFrom());
+        }
+        if (condition.getTo() != null) {
+            query.setParameter("to", condition.getTo());
+        }
+        if (condition.getCursor() != null) {
+            query.setParameter("cursorDate", condition.getCursor().getOrderDate());
+            query.setParameter("cursorId", condition.getCursor().getOrderId());
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+}
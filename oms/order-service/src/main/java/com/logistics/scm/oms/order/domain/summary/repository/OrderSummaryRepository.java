@@ -0,0 +1,34 @@
+package com.logistics.scm.oms.order.domain.summary.repository;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.summary.entity.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 요약 조회 모델 Repository
+ */
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, UUID>, OrderSummaryQueryRepository {
+
+    /**
+     * 주문 상태 반영 (엔티티 로딩 없이 단건 UPDATE)
+     *
+     * @param orderId 주문 ID
+     * @param status 주문 상태
+     * @param updatedAt 반영 시각
+     * @return 반영 건수
+     */
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.orderStatus = :status, s.updatedAt = :updatedAt " +
+            "WHERE s.orderId = :orderId")
+    int updateStatus(@Param("orderId") UUID orderId,
+                     @Param("status") Order.OrderStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,35 @@
+package com.logistics.scm.oms.order.domain.summary.service;
+
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummarySearchCondition;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryPageResponse;
+import com.logistics.scm.oms.order.event.order.OrderCreatedEvent;
+import com.logistics.scm.oms.order.event.order.OrderStatusChangedEvent;
+
+/**
+ * 주문 요약 조회 모델 서비스 인터페이스
+ */
+public interface OrderSummaryService {
+
+    /**
+     * 주문 생성 반영 (주문 생성 트랜잭션에 참여)
+     *
+     * @param event 주문 생성 이벤트
+     */
+    void applyCreated(OrderCreatedEvent event);
+
+    /**
+     * 주문 상태 변경 반영 (상태 변경 트랜잭션에 참여)
+     *
+     * @param event 주문 상태 변경 이벤트
+     */
+    void applyStatusChanged(OrderStatusChangedEvent event);
+
+    /**
+     * 주문 요약 목록 조회 (키셋 페이지네이션)
+     *
+     * @param condition 검색 조건
+     * @param size 페이지 크기
+     * @return 주문 요약 페이지
+     */
+    OrderSummaryPageResponse search(OrderSummarySearchCondition condition, int size);
+}
@@ -0,0 +1,83 @@
+package com.logistics.scm.oms.order.domain.summary.service;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummaryCursor;
+import com.logistics.scm.oms.order.domain.summary.dto.request.OrderSummarySearchCondition;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryPageResponse;
+import com.logistics.scm.oms.order.domain.summary.dto.response.OrderSummaryResponse;
+import com.logistics.scm.oms.order.domain.summary.entity.OrderSummary;
+import com.logistics.scm.oms.order.domain.summary.repository.OrderSummaryRepository;
+import com.logistics.scm.oms.order.event.order.OrderCreatedEvent;
+import com.logistics.scm.oms.order.event.order.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 요약 조회 모델 서비스 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryServiceImpl implements OrderSummaryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @Override
+    @Transactional
+    public void applyCreated(OrderCreatedEvent event) {
+        List<OrderCreatedEvent.OrderItemEvent> items = event.getItems();
+        orderSummaryRepository.save(OrderSummary.builder()
+                .orderId(UUID.fromString(event.getOrderId()))
+                .orderNumber(event.getOrderNumber())
+                .customerId(UUID.fromString(event.getCustomerId()))
+                .orderStatus(Order.OrderStatus.CREATED)
+                .totalAmount(event.getTotalAmount())
+                .itemCount(items.size())
+                .totalQuantity(items.stream().mapToInt(OrderCreatedEvent.OrderItemEvent::getQuantity).sum())
+                .orderDate(event.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void applyStatusChanged(OrderStatusChangedEvent event) {
+        int updated = orderSummaryRepository.updateStatus(
+                event.getOrderId(), event.getOrderStatus(), event.getChangedAt());
+        if (updated == 0) {
+            log.warn("주문 요약 없음, 상태 반영 생략: orderId={}, status={}", event.getOrderId(), event.getOrderStatus());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSummaryPageResponse search(OrderSummarySearchCondition condition, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 1건 더 조회하여 다음 페이지 존재 여부 판단
+        List<OrderSummaryResponse> rows = orderSummaryRepository.search(condition, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = new OrderSummaryCursor(last.getOrderDate(), last.getId()).encode();
+        }
+
+        return OrderSummaryPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -4,10 +4,16 @@ import com.logistics.scm.oms.order.event.inventory.InventoryReleasedEvent;
 import com.logistics.scm.oms.order.event.inventory.InventoryReservationFailedEvent;
 import com.logistics.scm.oms.order.event.inventory.InventoryReservedEvent;
 import com.logistics.scm.oms.order.domain.order.service.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.messaging.inbox.service.InboxService;
+import com.logistics.scm.messaging.kafka.MessagingHeaders;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -15,6 +21,12 @@ import java.util.UUID;
  * 재고 이벤트 리스너
  * 
  * Inventory Service에서 발행한 이벤트를 구독하여 주문 상태 관리 수행
+ * 
+ * inventory-events 토픽을 리스너 하나로 구독하고 eventType 헤더로 처리 메서드를 선택합니다.
+ * (타입별 리스너를 같은 group-id로 두면 파티션이 나뉘어 배정되어 다른 타입 레코드가 유실됨)
+ * 
+ * Inbox 수신 이력과 주문 상태 변경을 한 트랜잭션으로 처리합니다.
+ * 처리 중 오류가 나면 둘 다 롤백되고 예외가 컨테이너로 전파되어 재전달됩니다.
  */
 @Slf4j
 @Component
@@ -22,77 +34,106 @@ import java.util.UUID;
 public class InventoryEventListener {
 
     private final OrderService orderService;
+    private final InboxService inboxService;
+    private final ObjectMapper objectMapper;
 
     /**
-     * 재고 예약 성공 이벤트 처리
-     * 주문 상태를 CONFIRMED로 업데이트
+     * 재고 이벤트 수신 및 eventType별 처리
+     * eventType 헤더가 없거나 처리 대상이 아닌 이벤트는 건너뜀
      */
     @KafkaListener(
             topics = "${kafka.topics.inventory-events}",
             groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "inventoryReservedEventKafkaListenerContainerFactory"
+            containerFactory = "inventoryEventKafkaListenerContainerFactory"
     )
-    public void handleInventoryReservedEvent(InventoryReservedEvent event) {
+    @Transactional
+    public void onInventoryEvent(ConsumerRecord<String, String> record) {
+        String eventType = MessagingHeaders.valueOf(record, MessagingHeaders.EVENT_TYPE);
+        switch (eventType != null ? eventType : "") {
+            case "InventoryReservedEvent" ->
+                    handleInventoryReservedEvent(read(record, InventoryReservedEvent.class));
+            case "InventoryReservationFailedEvent" ->
+                    handleInventoryReservationFailedEvent(read(record, InventoryReservationFailedEvent.class));
+            case "InventoryReleasedEvent" ->
+                    handleInventoryReleasedEvent(read(record, InventoryReleasedEvent.class));
+            default -> log.debug("처리 대상이 아닌 재고 이벤트: eventType={}, offset={}", eventType, record.offset());
+        }
+    }
+
+    /**
+     * 재고 예약 성공 이벤트 처리
+     * 주문 상태를 CONFIRMED로 업데이트
+     */
+    private void handleInventoryReservedEvent(InventoryReservedEvent event) {
+        if (isDuplicate(event.getEventId(), "InventoryReservedEvent")) {
+            return;
+        }
+
         log.info("재고 예약 성공 이벤트 수신: orderId={}, orderNumber={}", 
                 event.getOrderId(), event.getOrderNumber());
 
-        try {
-            UUID orderId = UUID.fromString(event.getOrderId());
-            
-            // 주문 상태를 CONFIRMED로 업데이트
-            orderService.confirmOrder(orderId);
-            
-            log.info("주문 확정 완료: orderId={}, orderNumber={}", 
-                    event.getOrderId(), event.getOrderNumber());
-
-        } catch (Exception e) {
-            log.error("재고 예약 성공 이벤트 처리 중 오류 발생: orderId={}", 
-                    event.getOrderId(), e);
-        }
+        UUID orderId = UUID.fromString(event.getOrderId());
+
+        // 주문 상태를 CONFIRMED로 업데이트
+        orderService.confirmOrder(orderId);
+
+        log.info("주문 확정 완료: orderId={}, orderNumber={}", 
+                event.getOrderId(), event.getOrderNumber());
     }
 
     /**
      * 재고 예약 실패 이벤트 처리
      * 주문을 취소 (보상 트랜잭션)
      */
-    @KafkaListener(
-            topics = "${kafka.topics.inventory-events}",
-            groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "inventoryReservationFailedEventKafkaListenerContainerFactory"
-    )
-    public void handleInventoryReservationFailedEvent(InventoryReservationFailedEvent event) {
+    private void handleInventoryReservationFailedEvent(InventoryReservationFailedEvent event) {
+        if (isDuplicate(event.getEventId(), "InventoryReservationFailedEvent")) {
+            return;
+        }
+
         log.warn("재고 예약 실패 이벤트 수신: orderId={}, orderNumber={}, reason={}", 
                 event.getOrderId(), event.getOrderNumber(), event.getReason());
 
-        try {
-            UUID orderId = UUID.fromString(event.getOrderId());
-            
-            // 주문 취소 (보상 트랜잭션)
-            orderService.cancelOrderByInventoryFailure(orderId, event.getReason());
-            
-            log.info("재고 부족으로 주문 취소 완료: orderId={}, orderNumber={}", 
-                    event.getOrderId(), event.getOrderNumber());
-
-        } catch (Exception e) {
-            log.error("재고 예약 실패 이벤트 처리 중 오류 발생: orderId={}", 
-                    event.getOrderId(), e);
-        }
+        UUID orderId = UUID.fromString(event.getOrderId());
+
+        // 주문 취소 (보상 트랜잭션)
+        orderService.cancelOrderByInventoryFailure(orderId, event.getReason());
+
+        log.info("재고 부족으로 주문 취소 완료: orderId={}, orderNumber={}", 
+                event.getOrderId(), event.getOrderNumber());
     }
 
     /**
      * 재고 해제 완료 이벤트 처리
      * 로깅 및 모니터링 목적
      */
-    @KafkaListener(
-            topics = "${kafka.topics.inventory-events}",
-            groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "inventoryReleasedEventKafkaListenerContainerFactory"
-    )
-    public void handleInventoryReleasedEvent(InventoryReleasedEvent event) {
+    private void handleInventoryReleasedEvent(InventoryReleasedEvent event) {
+        if (isDuplicate(event.getEventId(), "InventoryReleasedEvent")) {
+            return;
+        }
+
         log.info("재고 해제 완료 이벤트 수신: orderId={}, orderNumber={}", 
                 event.getOrderId(), event.getOrderNumber());
         
         // 현재는 로깅만 수행
         // 향후 통계/분석 목적으로 활용 가능
     }
+
+    private <T> T read(ConsumerRecord<String, String> record, Class<T> type) {
+        try {
+            return objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재고 이벤트 변환 실패: offset=" + record.offset(), e);
+        }
+    }
+
+    /**
+     * 중복 수신 여부 확인 (Inbox)
+     * 재전달된 이벤트로 재고/주문 상태가 두 번 변경되지 않도록 eventId 기준으로 한 번만 처리
+     */
+    private boolean isDuplicate(String eventId, String eventType) {
+        if (eventId == null) {
+            return false;
+        }
+        return !inboxService.tryAcquire(eventId, "order-service." + eventType);
+    }
 }
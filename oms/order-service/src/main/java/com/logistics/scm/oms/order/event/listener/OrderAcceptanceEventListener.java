@@ -0,0 +1,33 @@
+package com.logistics.scm.oms.order.event.listener;
+
+import com.logistics.scm.oms.order.domain.acceptance.service.OrderAcceptanceService;
+import com.logistics.scm.oms.order.event.order.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비동기 주문 접수 상태 갱신 리스너
+ * 
+ * 재고 예약 결과(InventoryEventListener) / Saga 타임아웃으로 주문 상태가 바뀌면
+ * 커밋 후 접수 상태를 갱신하여 SSE 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAcceptanceEventListener {
+
+    private final OrderAcceptanceService orderAcceptanceService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderStatusChangedEvent(OrderStatusChangedEvent event) {
+        try {
+            orderAcceptanceService.applyOrderStatus(event.getOrderId(), event.getOrderStatus());
+        } catch (Exception e) {
+            // 주문 상태는 이미 커밋됨, 구독자는 상태 조회 API로 확인 가능
+            log.warn("주문 접수 상태 갱신 실패: orderId={}, error={}", event.getOrderId(), e.getMessage());
+        }
+    }
+}
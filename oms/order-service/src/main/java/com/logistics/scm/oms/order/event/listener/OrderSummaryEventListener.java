@@ -0,0 +1,31 @@
+package com.logistics.scm.oms.order.event.listener;
+
+import com.logistics.scm.oms.order.domain.summary.service.OrderSummaryService;
+import com.logistics.scm.oms.order.event.order.OrderCreatedEvent;
+import com.logistics.scm.oms.order.event.order.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 요약 조회 모델 갱신 리스너
+ * 
+ * OrderServiceImpl이 발행한 주문 이벤트(ApplicationEvent)를 같은 트랜잭션에서 동기 처리하여
+ * 주문(ORDER_TB)과 조회 모델(order_summary_tb)이 항상 함께 커밋되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryEventListener {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @EventListener
+    public void handleOrderCreatedEvent(OrderCreatedEvent event) {
+        orderSummaryService.applyCreated(event);
+    }
+
+    @EventListener
+    public void handleOrderStatusChangedEvent(OrderStatusChangedEvent event) {
+        orderSummaryService.applyStatusChanged(event);
+    }
+}
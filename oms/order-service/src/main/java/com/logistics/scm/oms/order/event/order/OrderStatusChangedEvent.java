@@ -0,0 +1,34 @@
+package com.logistics.scm.oms.order.event.order;
+
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 상태 변경 이벤트
+ * 
+ * 서비스 내부(ApplicationEvent) 전용 이벤트로 Kafka로는 발행하지 않음
+ * 주문 조회 모델(order_summary_tb)이 이 이벤트를 구독하여 상태를 반영함
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+
+    /**
+     * 주문 ID
+     */
+    private UUID orderId;
+
+    /**
+     * 변경된 주문 상태
+     */
+    private Order.OrderStatus orderStatus;
+
+    /**
+     * 변경 시각
+     */
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,25 @@
+-- 비동기 주문 접수 상태 저장 및 발행 (상태 역행 방지)
+--
+-- KEYS[1] : 접수 상태 키 (Hash: rank, value)
+-- ARGV[1] : 접수 상태 JSON
+-- ARGV[2] : 상태 순위 (ACCEPTED 0 < CREATED 1 < CONFIRMED/CANCELLED/FAILED 2)
+-- ARGV[3] : 보관 기간 (ms)
+-- ARGV[4] : 발행 채널
+--
+-- 반환: 1 = 저장/발행, 0 = 저장된 상태가 같거나 앞서 있어 무시
+--
+-- 주문 생성 커밋 후의 CREATED 저장이 재고 예약 결과(CONFIRMED/CANCELLED) 저장보다 늦게 도착해도
+-- 최종 상태를 덮어쓰지 않도록, 순위 비교와 저장/발행을 한 번에 수행한다.
+
+local key = KEYS[1]
+local rank = tonumber(ARGV[2])
+
+local current = tonumber(redis.call('HGET', key, 'rank'))
+if current ~= nil and current >= rank then
+    return 0
+end
+
+redis.call('HSET', key, 'rank', rank, 'value', ARGV[1])
+redis.call('PEXPIRE', key, ARGV[3])
+redis.call('PUBLISH', ARGV[4], ARGV[1])
+return 1
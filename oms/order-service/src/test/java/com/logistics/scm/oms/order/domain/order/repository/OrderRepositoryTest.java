@@ -0,0 +1,94 @@
+package com.logistics.scm.oms.order.domain.order.repository;
+
+import com.logistics.scm.oms.order.config.JpaConfig;
+import com.logistics.scm.oms.order.domain.order.dto.request.OrderCreateRequest;
+import com.logistics.scm.oms.order.domain.order.entity.Order;
+import com.logistics.scm.oms.order.domain.order.entity.OrderItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 Repository 테스트
+ * 
+ * 주문 항목 포함 조회가 항목 수와 관계없이 같은 수의 SQL로 끝나는지(N+1 없음) Hibernate 통계로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("주문 항목 포함 조회는 항목 수와 관계없이 SQL 1회로 끝남")
+    void findWithItemsByIdWithoutNPlusOne() {
+        UUID singleItemOrderId = saveOrder(1);
+        UUID manyItemsOrderId = saveOrder(50);
+
+        long singleItemStatements = countStatementsLoading(singleItemOrderId, 1);
+        long manyItemsStatements = countStatementsLoading(manyItemsOrderId, 50);
+
+        assertThat(singleItemStatements).isEqualTo(1);
+        assertThat(manyItemsStatements).isEqualTo(singleItemStatements);
+    }
+
+    /**
+     * 주문 조회 후 항목 필드까지 접근하는 동안 실행된 SQL 수
+     */
+    private long countStatementsLoading(UUID orderId, int expectedItemCount) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Order order = orderRepository.findWithItemsById(orderId).orElseThrow();
+        assertThat(order.getOrderItems()).hasSize(expectedItemCount);
+        order.getOrderItems().forEach(item -> assertThat(item.getProductName()).isNotNull());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID saveOrder(int itemCount) {
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .customerId(UUID.randomUUID())
+                .items(IntStream.range(0, itemCount)
+                        .mapToObj(index -> OrderCreateRequest.OrderItemRequestDTO.builder()
+                                .productCode("PRD-" + index)
+                                .quantity(1)
+                                .unitPrice(BigDecimal.valueOf(1000))
+                                .build())
+                        .toList())
+                .build();
+
+        Order order = Order.from(request);
+        order.setOrderNumber("ORD-TEST-" + UUID.randomUUID());
+        for (OrderItem item : order.getOrderItems()) {
+            item.setProductName("상품 " + item.getProductCode());
+        }
+
+        UUID orderId = entityManager.persistAndFlush(order).getOrderId();
+        entityManager.clear();
+        return orderId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.scm.delivery.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.delivery.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -29,7 +30,7 @@ import java.util.UUID;
 public class DeliveryOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "delivery_id", columnDefinition = "uuid")
     private UUID deliveryId;
 
@@ -1,5 +1,8 @@
 package com.scm.warehouse.domain.inbound.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.scm.identifier.number.NumberGenerator;
+import com.logistics.scm.messaging.outbox.service.OutboxService;
 import com.scm.warehouse.domain.inbound.dto.request.InboundCreateRequest;
 import com.scm.warehouse.domain.inbound.dto.response.InboundResponse;
 import com.scm.warehouse.domain.inbound.repository.InboundOrderRepository;
@@ -13,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +36,9 @@ import java.util.stream.Collectors;
 public class InboundServiceImpl implements InboundService {
 
     private final InboundOrderRepository inboundOrderRepository;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final NumberGenerator numberGenerator;
 
     @Override
     @Transactional
@@ -118,11 +123,12 @@ public class InboundServiceImpl implements InboundService {
         inboundOrder.setInboundStatus(InboundStatus.COMPLETED);
         inboundOrder.setReceivedDate(LocalDateTime.now());
 
-        // TODO: Kafka 이벤트 발행
+        InboundOrder savedOrder = inboundOrderRepository.save(inboundOrder);
+
+        // 입고 완료 이벤트를 Outbox에 저장 (동일 트랜잭션)
         // - IB 타입: hub.inbound_completed → inventory.increased
         // - TI 타입: hub.transfer_completed → inventory.increased (목적지 허브)
-
-        InboundOrder savedOrder = inboundOrderRepository.save(inboundOrder);
+        saveInboundEvent(savedOrder, "InboundCompletedEvent");
 
         log.info("입고 완료: inboundNumber={}, type={}", 
                 savedOrder.getInboundNumber(), savedOrder.getInboundType());
@@ -146,11 +152,12 @@ public class InboundServiceImpl implements InboundService {
         // 상태 변경: → REJECTED
         inboundOrder.setInboundStatus(InboundStatus.REJECTED);
 
-        // TODO: Kafka 이벤트 발행
-        // hub.inbound_rejected → 반송 처리 (ReturnOrder 생성)
-
         InboundOrder savedOrder = inboundOrderRepository.save(inboundOrder);
 
+        // 입고 거부 이벤트를 Outbox에 저장 (동일 트랜잭션)
+        // hub.inbound_rejected → 반송 처리 (ReturnOrder 생성)
+        saveInboundEvent(savedOrder, "InboundRejectedEvent");
+
         log.warn("입고 거부 완료: inboundNumber={}, reason={}", 
                 savedOrder.getInboundNumber(), reason);
 
@@ -209,18 +216,31 @@ public class InboundServiceImpl implements InboundService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 입고 이벤트 Outbox 저장
+     * 입고 상태 변경과 같은 트랜잭션에서 저장되며, 발행은 common:messaging Relay가 담당
+     */
+    private void saveInboundEvent(InboundOrder inboundOrder, String eventType) {
+        try {
+            String payload = objectMapper.writeValueAsString(InboundResponse.from(inboundOrder));
+            outboxService.saveOutbox(
+                    "Inbound",
+                    inboundOrder.getInboundId().toString(),
+                    eventType,
+                    payload
+            );
+        } catch (Exception e) {
+            log.error("입고 이벤트 Outbox 저장 실패: inboundId={}, eventType={}",
+                    inboundOrder.getInboundId(), eventType, e);
+        }
+    }
+
     /**
      * 입고 번호 생성
-     * 형식: {TYPE}-{YYYYMMDD}-{SEQ}
-     * 예: IB-20260206-0001, TI-20260206-0001
+     * 형식: {TYPE}-{YYYYMMDD}-{일련번호 19자리}
+     * 예: IB-20260206-0000123456789012345, TI-20260206-0000123456789012346
      */
     private String generateInboundNumber(InboundType type) {
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = type.name();
-        
-        // TODO: 실제로는 Redis 또는 DB 시퀀스를 사용하여 순번 관리
-        String seq = String.format("%04d", (int) (Math.random() * 10000));
-        
-        return String.format("%s-%s-%s", prefix, dateStr, seq);
+        return numberGenerator.next(type.name());
     }
 }
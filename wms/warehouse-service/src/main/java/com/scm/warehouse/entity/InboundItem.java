@@ -1,5 +1,6 @@
 package com.scm.warehouse.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.warehouse.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -26,7 +27,7 @@ import java.util.UUID;
 public class InboundItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "inbound_item_id", columnDefinition = "uuid")
     private UUID inboundItemId;
 
@@ -1,5 +1,6 @@
 package com.scm.warehouse.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.warehouse.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class OutboundItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "outbound_item_id", columnDefinition = "uuid")
     private UUID outboundItemId;
 
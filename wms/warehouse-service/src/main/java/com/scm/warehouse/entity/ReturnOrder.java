@@ -1,5 +1,6 @@
 package com.scm.warehouse.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.warehouse.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -44,7 +45,7 @@ import java.util.UUID;
 public class ReturnOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "return_id", columnDefinition = "uuid")
     private UUID returnId;
 
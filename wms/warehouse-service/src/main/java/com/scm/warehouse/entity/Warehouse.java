@@ -1,5 +1,6 @@
 package com.scm.warehouse.entity;
 
+import com.logistics.scm.identifier.uuid.UuidV7;
 import com.scm.warehouse.common.BaseEntity;
 import jakarta.persistence.*;
 
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class Warehouse extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "warehouse_id", columnDefinition = "uuid")
     private UUID warehouseId;
 